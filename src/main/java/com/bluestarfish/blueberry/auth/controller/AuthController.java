@@ -5,6 +5,7 @@ import com.bluestarfish.blueberry.auth.dto.MailAuthRequest;
 import com.bluestarfish.blueberry.auth.dto.MailRequest;
 import com.bluestarfish.blueberry.auth.service.AuthService;
 import com.bluestarfish.blueberry.common.dto.ApiSuccessResponse;
+import com.bluestarfish.blueberry.jwt.CurrentUserId;
 import jakarta.servlet.http.HttpServletResponse;
 import lombok.RequiredArgsConstructor;
 import org.springframework.http.HttpStatus;
@@ -32,10 +33,10 @@ public class AuthController {
 
     @PostMapping("/logout")
     public ApiSuccessResponse<?> logout(
-            @CookieValue("Authorization") String accessToken,
+            @CurrentUserId Long loginId,
             HttpServletResponse response
     ) {
-        authService.logout(accessToken);
+        authService.logout(loginId);
         response.addCookie(removeAuthCookie());
 
         return handleSuccessResponse(HttpStatus.NO_CONTENT);
@@ -19,6 +19,9 @@ import java.time.LocalDateTime;
         name = "refresh_tokens",
         indexes = {
                 @Index(name = "idx_user_id", columnList = "user_id")
+        },
+        uniqueConstraints = {
+                @UniqueConstraint(name = "uk_family_id", columnNames = "family_id")
         }
 )
 public class RefreshToken {
@@ -31,8 +34,22 @@ public class RefreshToken {
     @OnDelete(action = OnDeleteAction.CASCADE)
     private User user;
 
+    @Column(length = 512)
     private String token;
 
+    // 행은 RefreshTokenStore 가 비동기로 반영 (RefreshTokenFamilyRepository)
+    @Column(name = "family_id", length = 64)
+    private String familyId;
+
+    @Column(nullable = false)
+    private int generation;
+
+    @Column(name = "expires_at")
+    private LocalDateTime expiresAt;
+
+    @Column(name = "rotated_at")
+    private LocalDateTime rotatedAt;
+
     @Column(name = "created_at", nullable = false)
     private LocalDateTime createdAt;
 
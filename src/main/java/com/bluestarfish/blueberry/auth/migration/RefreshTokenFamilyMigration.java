@@ -0,0 +1,48 @@
+package com.bluestarfish.blueberry.auth.migration;
+
+import com.bluestarfish.blueberry.auth.token.RefreshTokenFamily;
+import com.bluestarfish.blueberry.jwt.JWTUtils;
+import jakarta.annotation.PostConstruct;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.context.annotation.DependsOn;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Component;
+
+// 패밀리 도입 전 유저당 하나씩 저장하던 리프레쉬 토큰을 유저별 레거시 패밀리로 변환 (요청을 받기 전에 실행)
+// 변환할 행이 없으면(신규 DB 또는 이미 변환됨) 아무것도 하지 않음
+@Slf4j
+@Component
+@DependsOn("entityManagerFactory")
+@RequiredArgsConstructor
+public class RefreshTokenFamilyMigration {
+    private static final int TOKEN_LENGTH = 512;
+    private static final String TOKEN_LENGTH_SQL = "SELECT character_maximum_length FROM information_schema.columns "
+            + "WHERE table_schema = DATABASE() AND table_name = 'refresh_tokens' AND column_name = 'token'";
+    // 같은 유저의 레거시 토큰이 여러 개면 마지막 것만 남김 (한 유저에 레거시 패밀리는 하나)
+    private static final String DELETE_DUPLICATE_LEGACY_SQL = "DELETE r FROM refresh_tokens r "
+            + "JOIN refresh_tokens newer ON newer.user_id = r.user_id AND newer.id > r.id "
+            + "WHERE r.family_id IS NULL AND newer.family_id IS NULL";
+    private static final String MIGRATE_LEGACY_SQL = "UPDATE refresh_tokens "
+            + "SET family_id = CONCAT(?, user_id), generation = 0, expires_at = created_at + INTERVAL ? SECOND "
+            + "WHERE family_id IS NULL";
+
+    private final JdbcTemplate jdbcTemplate;
+    private final JWTUtils jwtUtils;
+
+    @PostConstruct
+    public void migrate() {
+        // 세대/패밀리 클레임이 붙은 토큰은 기존 VARCHAR(255) 를 넘을 수 있음 (ddl-auto 는 길이를 늘리지 않음)
+        Integer tokenLength = jdbcTemplate.queryForObject(TOKEN_LENGTH_SQL, Integer.class);
+        if (tokenLength != null && tokenLength < TOKEN_LENGTH) {
+            jdbcTemplate.execute("ALTER TABLE refresh_tokens MODIFY token VARCHAR(" + TOKEN_LENGTH + ")");
+        }
+
+        int removed = jdbcTemplate.update(DELETE_DUPLICATE_LEGACY_SQL);
+        int migrated = jdbcTemplate.update(MIGRATE_LEGACY_SQL,
+                RefreshTokenFamily.LEGACY_FAMILY_PREFIX, jwtUtils.getRefreshExpiredTime().toSeconds());
+        if (removed + migrated > 0) {
+            log.info("리프레쉬 토큰 패밀리 변환 완료: 변환 {}건, 중복 삭제 {}건", migrated, removed);
+        }
+    }
+}
@@ -0,0 +1,58 @@
+package com.bluestarfish.blueberry.auth.repository;
+
+import com.bluestarfish.blueberry.auth.token.RefreshTokenFamily;
+import lombok.RequiredArgsConstructor;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Repository;
+
+import java.sql.Timestamp;
+import java.util.List;
+
+// 리프레쉬 토큰 패밀리 적재/반영을 JDBC 로 처리, 패밀리당 한 행 (family_id 유니크 제약 기준)
+@Repository
+@RequiredArgsConstructor
+public class RefreshTokenFamilyRepository {
+    private static final String SELECT_ACTIVE_SQL = "SELECT family_id, user_id, generation, token, expires_at, rotated_at "
+            + "FROM refresh_tokens WHERE family_id IS NOT NULL AND expires_at > NOW()";
+    private static final String UPSERT_SQL = "INSERT INTO refresh_tokens "
+            + "(family_id, user_id, generation, token, expires_at, rotated_at, created_at) VALUES (?, ?, ?, ?, ?, ?, NOW()) "
+            + "ON DUPLICATE KEY UPDATE generation = VALUES(generation), token = VALUES(token), "
+            + "expires_at = VALUES(expires_at), rotated_at = VALUES(rotated_at)";
+    private static final String DELETE_SQL = "DELETE FROM refresh_tokens WHERE family_id = ?";
+    private static final String DELETE_EXPIRED_SQL = "DELETE FROM refresh_tokens WHERE expires_at < NOW()";
+
+    private final JdbcTemplate jdbcTemplate;
+
+    public List<RefreshTokenFamily> findAllActive() {
+        return jdbcTemplate.query(SELECT_ACTIVE_SQL, (rs, rowNum) -> {
+            Timestamp rotatedAt = rs.getTimestamp(6);
+            return new RefreshTokenFamily(
+                    rs.getString(1),
+                    rs.getLong(2),
+                    rs.getInt(3),
+                    rs.getString(4),
+                    rs.getTimestamp(5).toInstant(),
+                    rotatedAt != null ? rotatedAt.toInstant() : null
+            );
+        });
+    }
+
+    public void save(RefreshTokenFamily family) {
+        jdbcTemplate.update(UPSERT_SQL,
+                family.familyId(),
+                family.userId(),
+                family.generation(),
+                family.token(),
+                Timestamp.from(family.expiresAt()),
+                family.rotatedAt() != null ? Timestamp.from(family.rotatedAt()) : null
+        );
+    }
+
+    public void delete(String familyId) {
+        jdbcTemplate.update(DELETE_SQL, familyId);
+    }
+
+    public int deleteExpired() {
+        return jdbcTemplate.update(DELETE_EXPIRED_SQL);
+    }
+}
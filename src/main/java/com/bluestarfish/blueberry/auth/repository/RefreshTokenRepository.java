@@ -1,13 +0,0 @@
-package com.bluestarfish.blueberry.auth.repository;
-
-import com.bluestarfish.blueberry.auth.entity.RefreshToken;
-import java.util.Optional;
-import org.springframework.data.jpa.repository.JpaRepository;
-import org.springframework.stereotype.Repository;
-
-@Repository
-public interface RefreshTokenRepository extends JpaRepository<RefreshToken, Long> {
-    Optional<RefreshToken> findByUserId(Long id);
-
-    void deleteByUserId(Long id);
-}
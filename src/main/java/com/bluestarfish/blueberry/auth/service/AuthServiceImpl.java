@@ -5,14 +5,12 @@ import com.bluestarfish.blueberry.auth.dto.LoginSuccessResult;
 import com.bluestarfish.blueberry.auth.dto.MailAuthRequest;
 import com.bluestarfish.blueberry.auth.dto.MailRequest;
 import com.bluestarfish.blueberry.auth.entity.AuthCode;
-import com.bluestarfish.blueberry.auth.entity.RefreshToken;
 import com.bluestarfish.blueberry.auth.enumeration.MailAuthType;
 import com.bluestarfish.blueberry.auth.repository.AuthCodeRepository;
-import com.bluestarfish.blueberry.auth.repository.RefreshTokenRepository;
+import com.bluestarfish.blueberry.auth.token.RefreshTokenManager;
 import com.bluestarfish.blueberry.exception.CustomException;
 import com.bluestarfish.blueberry.exception.ExceptionDomain;
 import com.bluestarfish.blueberry.jwt.JWTTokens;
-import com.bluestarfish.blueberry.jwt.JWTUtils;
 import com.bluestarfish.blueberry.user.entity.User;
 import com.bluestarfish.blueberry.user.repository.UserRepository;
 import jakarta.mail.MessagingException;
@@ -25,8 +23,6 @@ import org.springframework.mail.javamail.MimeMessageHelper;
 import org.springframework.security.crypto.password.PasswordEncoder;
 import org.springframework.stereotype.Service;
 
-import java.net.URLDecoder;
-import java.nio.charset.StandardCharsets;
 import java.time.Duration;
 import java.time.LocalDateTime;
 import java.util.Random;
@@ -38,11 +34,10 @@ import static java.lang.Boolean.TRUE;
 @Transactional
 public class AuthServiceImpl implements AuthService {
 
-    private final JWTUtils jwtUtils;
     private final JavaMailSender javaMailSender;
     private final UserRepository userRepository;
     private final PasswordEncoder passwordEncoder;
-    private final RefreshTokenRepository refreshTokenRepository;
+    private final RefreshTokenManager refreshTokenManager;
     private final AuthCodeRepository authCodeRepository;
 
     @Override
@@ -55,14 +50,7 @@ public class AuthServiceImpl implements AuthService {
         }
 
 
-        JWTTokens jwtTokens = jwtUtils.createJwt(user.getId());
-
-        refreshTokenRepository.save(
-                RefreshToken.builder()
-                        .user(user)
-                        .token(jwtTokens.refreshToken())
-                        .build()
-        );
+        JWTTokens jwtTokens = refreshTokenManager.issue(user.getId());
 
         return LoginSuccessResult.builder()
                 .accessToken(jwtTokens.accessToken())
@@ -70,8 +58,8 @@ public class AuthServiceImpl implements AuthService {
     }
 
     @Override
-    public void logout(String accessToken) {
-        refreshTokenRepository.deleteByUserId(jwtUtils.getId(URLDecoder.decode(accessToken, StandardCharsets.UTF_8)));
+    public void logout(Long loginId) {
+        refreshTokenManager.revokeAll(loginId);
     }
 
     @Override
@@ -0,0 +1,169 @@
+package com.bluestarfish.blueberry.auth.token;
+
+import com.bluestarfish.blueberry.auth.repository.RefreshTokenFamilyRepository;
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.context.annotation.DependsOn;
+import org.springframework.dao.DataAccessException;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Optional;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+
+// 리프레쉬 토큰 패밀리를 메모리에 두고 요청 스레드에서는 DB 를 거치지 않음
+// 바뀐 패밀리 ID 만 모아두었다가 주기적으로 그 시점의 값(없으면 삭제)을 refresh_tokens 에 반영
+// 비정상 종료 시 유실 범위는 마지막 flush 이후(flush-interval)로 제한
+@Slf4j
+@Component
+@DependsOn("refreshTokenFamilyMigration")
+@RequiredArgsConstructor
+public class InMemoryRefreshTokenStore implements RefreshTokenStore {
+    private final RefreshTokenFamilyRepository refreshTokenFamilyRepository;
+
+    // ConcurrentHashMap 이 버킷 단위로 잠그므로 패밀리끼리는 서로 막지 않음
+    private final ConcurrentMap<String, RefreshTokenFamily> families = new ConcurrentHashMap<>();
+    private final ConcurrentMap<Long, Set<String>> familyIdsByUser = new ConcurrentHashMap<>();
+    private final Set<String> dirty = ConcurrentHashMap.newKeySet();
+    private final Object flushLock = new Object();
+
+    // 요청을 받기 전에 적재해야 재시작 직후 토큰 재발급이 실패하지 않음
+    @PostConstruct
+    public void load() {
+        List<RefreshTokenFamily> loaded = refreshTokenFamilyRepository.findAllActive();
+        loaded.forEach(this::index);
+        log.info("리프레쉬 토큰 패밀리 적재 완료: {}건", loaded.size());
+    }
+
+    @Override
+    public void save(RefreshTokenFamily family) {
+        index(family);
+        dirty.add(family.familyId());
+    }
+
+    @Override
+    public Optional<RefreshTokenFamily> find(String familyId) {
+        return Optional.ofNullable(families.get(familyId));
+    }
+
+    @Override
+    public boolean compareAndSet(RefreshTokenFamily expected, RefreshTokenFamily next) {
+        if (!families.replace(expected.familyId(), expected, next)) {
+            return false;
+        }
+        dirty.add(next.familyId());
+        return true;
+    }
+
+    @Override
+    public void revoke(String familyId) {
+        RefreshTokenFamily removed = families.remove(familyId);
+        if (removed != null) {
+            unindex(removed);
+            dirty.add(familyId);
+        }
+    }
+
+    @Override
+    public void revokeAll(Long userId) {
+        Set<String> familyIds = familyIdsByUser.remove(userId);
+        if (familyIds == null) {
+            return;
+        }
+        for (String familyId : familyIds) {
+            families.remove(familyId);
+            dirty.add(familyId);
+        }
+    }
+
+    @Scheduled(
+            initialDelayString = "${auth.refresh-token.flush-interval:1000}",
+            fixedDelayString = "${auth.refresh-token.flush-interval:1000}"
+    )
+    public void flush() {
+        synchronized (flushLock) {
+            if (dirty.isEmpty()) {
+                return;
+            }
+
+            // 목록을 먼저 비우고 반영 시점의 값을 쓰므로, 반영 중 다시 바뀐 패밀리는 다음 flush 에서 최신 값으로 반영됨
+            List<String> flushing = new ArrayList<>(dirty);
+            dirty.removeAll(flushing);
+
+            int failed = 0;
+            for (String familyId : flushing) {
+                RefreshTokenFamily family = families.get(familyId);
+                try {
+                    if (family != null) {
+                        refreshTokenFamilyRepository.save(family);
+                    } else {
+                        refreshTokenFamilyRepository.delete(familyId);
+                    }
+                } catch (DataIntegrityViolationException e) {
+                    log.warn("반영할 수 없는 리프레쉬 토큰 버림: familyId={}", familyId);
+                } catch (DataAccessException e) {
+                    dirty.add(familyId);
+                    failed++;
+                }
+            }
+
+            if (failed > 0) {
+                log.error("리프레쉬 토큰 반영 실패, 다음 주기에 재시도: {}건", failed);
+            }
+        }
+    }
+
+    // 만료된 패밀리 정리, 서버가 내려가 있는 동안 만료된 행도 함께 삭제
+    @Scheduled(
+            initialDelayString = "${auth.refresh-token.purge-interval:600000}",
+            fixedDelayString = "${auth.refresh-token.purge-interval:600000}"
+    )
+    public void purgeExpired() {
+        Instant now = Instant.now();
+        families.values().forEach(family -> {
+            if (family.isExpired(now) && families.remove(family.familyId(), family)) {
+                unindex(family);
+            }
+        });
+
+        try {
+            refreshTokenFamilyRepository.deleteExpired();
+        } catch (DataAccessException e) {
+            log.error("만료된 리프레쉬 토큰 삭제 실패, 다음 주기에 재시도", e);
+        }
+    }
+
+    @PreDestroy
+    public void flushOnShutdown() {
+        flush();
+        log.info("리프레쉬 토큰 저장소 종료 전 반영 완료: 미반영 {}건", dirty.size());
+    }
+
+    public int size() {
+        return families.size();
+    }
+
+    private void index(RefreshTokenFamily family) {
+        families.put(family.familyId(), family);
+        familyIdsByUser.compute(family.userId(), (userId, familyIds) -> {
+            Set<String> ids = familyIds != null ? familyIds : ConcurrentHashMap.newKeySet();
+            ids.add(family.familyId());
+            return ids;
+        });
+    }
+
+    private void unindex(RefreshTokenFamily family) {
+        familyIdsByUser.computeIfPresent(family.userId(), (userId, familyIds) -> {
+            familyIds.remove(family.familyId());
+            return familyIds.isEmpty() ? null : familyIds;
+        });
+    }
+}
@@ -0,0 +1,38 @@
+package com.bluestarfish.blueberry.auth.token;
+
+import java.time.Duration;
+import java.time.Instant;
+
+// 한 번의 로그인에서 이어지는 리프레쉬 토큰들의 묶음, 교체될 때마다 세대가 올라가고 현재 세대의 토큰만 유효
+// 불변 값이라 저장소는 이전 값과 비교해 교체(compare-and-set)하는 것만으로 동시 교체를 막을 수 있음
+public record RefreshTokenFamily(
+        String familyId,
+        Long userId,
+        int generation,
+        String token,
+        Instant expiresAt,
+        Instant rotatedAt
+) {
+    public static final String LEGACY_FAMILY_PREFIX = "legacy:";
+
+    public static RefreshTokenFamily issue(String familyId, Long userId, String token, Instant expiresAt) {
+        return new RefreshTokenFamily(familyId, userId, 0, token, expiresAt, null);
+    }
+
+    // 패밀리 도입 전에 유저당 하나씩 저장된 토큰은 유저 ID 로 만든 패밀리로 이어감
+    public static String legacyFamilyId(Long userId) {
+        return LEGACY_FAMILY_PREFIX + userId;
+    }
+
+    public RefreshTokenFamily rotate(String nextToken, Instant nextExpiresAt, Instant now) {
+        return new RefreshTokenFamily(familyId, userId, generation + 1, nextToken, nextExpiresAt, now);
+    }
+
+    public boolean isExpired(Instant now) {
+        return expiresAt.isBefore(now);
+    }
+
+    public boolean isRotatedWithin(Duration duration, Instant now) {
+        return rotatedAt != null && !rotatedAt.plus(duration).isBefore(now);
+    }
+}
@@ -0,0 +1,96 @@
+package com.bluestarfish.blueberry.auth.token;
+
+import com.bluestarfish.blueberry.common.transaction.TransactionCallbacks;
+import com.bluestarfish.blueberry.exception.CustomException;
+import com.bluestarfish.blueberry.exception.ExceptionDomain;
+import com.bluestarfish.blueberry.jwt.AuthenticatedPrincipal;
+import com.bluestarfish.blueberry.jwt.JWTTokens;
+import com.bluestarfish.blueberry.jwt.JWTUtils;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.http.HttpStatus;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.util.UUID;
+
+// 로그인 시 리프레쉬 토큰 패밀리를 만들고, 액세스 토큰이 만료되면 패밀리의 다음 세대로 교체
+// 이미 교체된 세대의 토큰이 다시 쓰이면 탈취된 것으로 보고 패밀리 전체를 폐기
+@Slf4j
+@Component
+public class RefreshTokenManager {
+    private final RefreshTokenStore refreshTokenStore;
+    private final JWTUtils jwtUtils;
+    private final Duration reuseGrace;
+
+    public RefreshTokenManager(
+            RefreshTokenStore refreshTokenStore,
+            JWTUtils jwtUtils,
+            @Value("${auth.refresh-token.reuse-grace:10s}") Duration reuseGrace
+    ) {
+        this.refreshTokenStore = refreshTokenStore;
+        this.jwtUtils = jwtUtils;
+        this.reuseGrace = reuseGrace;
+    }
+
+    public JWTTokens issue(Long userId) {
+        String familyId = UUID.randomUUID().toString();
+        JWTTokens jwtTokens = jwtUtils.createJwt(userId, familyId, 0);
+        RefreshTokenFamily family = RefreshTokenFamily.issue(familyId, userId, jwtTokens.refreshToken(), refreshExpiresAt(Instant.now()));
+        // 소셜 로그인은 같은 트랜잭션에서 유저를 만들기도 하므로, 커밋 후에 등록해야 비동기 반영이 FK 에 걸리지 않음
+        TransactionCallbacks.afterCommit(() -> refreshTokenStore.save(family));
+        return jwtTokens;
+    }
+
+    public JWTTokens rotate(AuthenticatedPrincipal principal) {
+        Long userId = principal.userId();
+        String familyId = principal.familyId() != null ? principal.familyId() : RefreshTokenFamily.legacyFamilyId(userId);
+        int generation = principal.generation();
+
+        while (true) {
+            RefreshTokenFamily current = refreshTokenStore.find(familyId)
+                    .filter(family -> family.userId().equals(userId))
+                    .orElseThrow(() -> new CustomException(
+                            "No refresh token found for the user with " + userId,
+                            ExceptionDomain.AUTH,
+                            HttpStatus.UNAUTHORIZED
+                    ));
+            Instant now = Instant.now();
+
+            if (current.isExpired(now)) {
+                refreshTokenStore.revoke(familyId);
+                throw new CustomException("Refresh Token is expired", ExceptionDomain.AUTH, HttpStatus.UNAUTHORIZED);
+            }
+
+            // 저장된 세대보다 큰 경우는 비정상 종료로 마지막 교체가 DB 에 반영되지 않은 것이므로 그대로 이어감
+            if (generation >= current.generation()) {
+                JWTTokens jwtTokens = jwtUtils.createJwt(userId, familyId, generation + 1);
+                RefreshTokenFamily next = current.rotate(jwtTokens.refreshToken(), refreshExpiresAt(now), now);
+                if (refreshTokenStore.compareAndSet(current, next)) {
+                    return jwtTokens;
+                }
+                // 다른 요청이 먼저 교체함, 바뀐 값으로 다시 판단
+                continue;
+            }
+
+            // 같은 만료 토큰으로 동시에 들어온 요청은 방금 교체된 세대의 액세스 토큰만 다시 발급
+            if (generation == current.generation() - 1 && current.isRotatedWithin(reuseGrace, now)) {
+                return new JWTTokens(jwtUtils.createAccessToken(userId, familyId, current.generation()), current.token());
+            }
+
+            refreshTokenStore.revoke(familyId);
+            log.warn("리프레쉬 토큰 재사용 감지, 패밀리 폐기: userId={}, familyId={}, generation={}, current={}",
+                    userId, familyId, generation, current.generation());
+            throw new CustomException("Refresh Token reuse detected", ExceptionDomain.AUTH, HttpStatus.UNAUTHORIZED);
+        }
+    }
+
+    public void revokeAll(Long userId) {
+        refreshTokenStore.revokeAll(userId);
+    }
+
+    private Instant refreshExpiresAt(Instant now) {
+        return now.plus(jwtUtils.getRefreshExpiredTime());
+    }
+}
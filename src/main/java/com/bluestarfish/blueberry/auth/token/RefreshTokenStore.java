@@ -0,0 +1,19 @@
+package com.bluestarfish.blueberry.auth.token;
+
+import java.util.Optional;
+
+// 리프레쉬 토큰 패밀리 저장소, 기본 구현은 InMemoryRefreshTokenStore
+// 다른 구현(Redis 등)을 쓰려면 이 인터페이스의 빈을 @Primary 로 등록
+public interface RefreshTokenStore {
+
+    void save(RefreshTokenFamily family);
+
+    Optional<RefreshTokenFamily> find(String familyId);
+
+    // 현재 값이 expected 일 때만 next 로 교체, 다른 요청이 먼저 교체했다면 false
+    boolean compareAndSet(RefreshTokenFamily expected, RefreshTokenFamily next);
+
+    void revoke(String familyId);
+
+    void revokeAll(Long userId);
+}
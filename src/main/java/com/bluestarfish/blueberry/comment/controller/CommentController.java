@@ -5,9 +5,9 @@ import static com.bluestarfish.blueberry.common.handler.ResponseHandler.handleSu
 import com.bluestarfish.blueberry.comment.dto.CommentRequest;
 import com.bluestarfish.blueberry.comment.service.CommentService;
 import com.bluestarfish.blueberry.common.dto.ApiSuccessResponse;
+import com.bluestarfish.blueberry.jwt.CurrentUserId;
 import lombok.RequiredArgsConstructor;
 import org.springframework.http.HttpStatus;
-import org.springframework.web.bind.annotation.CookieValue;
 import org.springframework.web.bind.annotation.DeleteMapping;
 import org.springframework.web.bind.annotation.GetMapping;
 import org.springframework.web.bind.annotation.PathVariable;
@@ -27,9 +27,9 @@ public class CommentController {
     @PostMapping
     public ApiSuccessResponse<?> registerComment(
             @RequestBody CommentRequest commentRequest,
-            @CookieValue(name = "Authorization") String accessToken
+            @CurrentUserId Long loginId
     ) {
-        return handleSuccessResponse(commentService.createComment(commentRequest, accessToken), HttpStatus.CREATED);
+        return handleSuccessResponse(commentService.createComment(commentRequest, loginId), HttpStatus.CREATED);
     }
 
     @GetMapping("/{postId}")
@@ -44,9 +44,9 @@ public class CommentController {
     public ApiSuccessResponse<?> deleteComment(
             @PathVariable("postId") Long postId,
             @PathVariable("commentId") Long commentId,
-            @CookieValue(name = "Authorization") String accessToken
+            @CurrentUserId Long loginId
     ) {
-        commentService.deleteCommentById(postId, commentId, accessToken);
+        commentService.deleteCommentById(postId, commentId, loginId);
         return handleSuccessResponse(HttpStatus.NO_CONTENT);
     }
 }
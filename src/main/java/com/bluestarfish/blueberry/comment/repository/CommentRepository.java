@@ -4,9 +4,14 @@ import com.bluestarfish.blueberry.comment.entity.Comment;
 import java.util.Optional;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.jpa.repository.EntityGraph;
 import org.springframework.data.jpa.repository.JpaRepository;
 
 public interface CommentRepository extends JpaRepository<Comment, Long> {
+    @EntityGraph(attributePaths = {"user", "metionedUser"})
     Page<Comment> findByPostIdAndDeletedAtIsNull(Long postId, Pageable pageable);
     Optional<Comment> findByIdAndDeletedAtIsNull(Long commentId);
+
+    @EntityGraph(attributePaths = {"user", "metionedUser", "post", "post.user", "post.room"})
+    Optional<Comment> findWithDetailsById(Long commentId);
 }
@@ -5,7 +5,7 @@ import com.bluestarfish.blueberry.comment.dto.CommentResponse;
 import org.springframework.data.domain.Page;
 
 public interface CommentService {
-    CommentResponse createComment(CommentRequest commentRequest, String accessToken);
+    CommentResponse createComment(CommentRequest commentRequest, Long loginId);
     Page<CommentResponse> getAllCommentsByPostId(Long postId, int page);
-    void deleteCommentById(Long postId, Long commentId, String accessToken);
+    void deleteCommentById(Long postId, Long commentId, Long loginId);
 }
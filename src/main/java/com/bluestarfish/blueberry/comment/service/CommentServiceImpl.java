@@ -6,13 +6,10 @@ import com.bluestarfish.blueberry.comment.entity.Comment;
 import com.bluestarfish.blueberry.comment.repository.CommentRepository;
 import com.bluestarfish.blueberry.exception.CustomException;
 import com.bluestarfish.blueberry.exception.ExceptionDomain;
-import com.bluestarfish.blueberry.jwt.JWTUtils;
 import com.bluestarfish.blueberry.post.entity.Post;
 import com.bluestarfish.blueberry.post.repository.PostRepository;
 import com.bluestarfish.blueberry.user.entity.User;
 import com.bluestarfish.blueberry.user.repository.UserRepository;
-import java.net.URLDecoder;
-import java.nio.charset.StandardCharsets;
 import java.time.LocalDateTime;
 import lombok.RequiredArgsConstructor;
 import org.springframework.data.domain.Page;
@@ -31,18 +28,15 @@ public class CommentServiceImpl implements CommentService {
     private final CommentRepository commentRepository;
     private final UserRepository userRepository;
     private final PostRepository postRepository;
-    private final JWTUtils jwtUtils;
 
     @Override
-    public CommentResponse createComment(CommentRequest commentRequest, String accessToken) {
-        Long tokenId = jwtUtils.getId(URLDecoder.decode(accessToken, StandardCharsets.UTF_8));
-
+    public CommentResponse createComment(CommentRequest commentRequest, Long loginId) {
         Post post = postRepository.findById(commentRequest.getPostId())
                 .orElseThrow(() -> new CustomException("Post not found with id: " + commentRequest.getPostId(), ExceptionDomain.COMMENT, HttpStatus.NOT_FOUND));
         User user = userRepository.findByIdAndDeletedAtIsNull(commentRequest.getUserId())
                 .orElseThrow(() -> new CustomException("User not found with id: " + commentRequest.getUserId(), ExceptionDomain.COMMENT, HttpStatus.NOT_FOUND));
 
-        if(!tokenId.equals(user.getId())) {
+        if(!loginId.equals(user.getId())) {
             throw new CustomException("Not match request ID and login ID", ExceptionDomain.COMMENT, HttpStatus.UNAUTHORIZED);
         }
 
@@ -62,15 +56,13 @@ public class CommentServiceImpl implements CommentService {
     }
 
     @Override
-    public void deleteCommentById(Long postId, Long commentId, String accessToken) {
-        Long tokenId = jwtUtils.getId(URLDecoder.decode(accessToken, StandardCharsets.UTF_8));
-
+    public void deleteCommentById(Long postId, Long commentId, Long loginId) {
         Comment comment = commentRepository.findByIdAndDeletedAtIsNull(commentId)
                 .orElseThrow(() -> new CustomException("Comment not found with id: " + commentId, ExceptionDomain.COMMENT, HttpStatus.NOT_FOUND));
 
         User user = comment.getUser();
 
-        if(!tokenId.equals(user.getId())) {
+        if(!loginId.equals(user.getId())) {
             throw new CustomException("Not match request ID and login ID", ExceptionDomain.COMMENT, HttpStatus.UNAUTHORIZED);
         }
         comment.setDeletedAt(LocalDateTime.now());
@@ -0,0 +1,14 @@
+package com.bluestarfish.blueberry.common.cache;
+
+import com.bluestarfish.blueberry.common.transaction.TransactionCallbacks;
+
+public final class CacheEvictions {
+
+    private CacheEvictions() {
+    }
+
+    // 커밋 전에 지우면 다른 요청이 이전 값을 다시 캐싱할 수 있으므로 커밋 이후에 제거
+    public static void afterCommit(Runnable eviction) {
+        TransactionCallbacks.afterCommit(eviction);
+    }
+}
@@ -1,9 +1,10 @@
 package com.bluestarfish.blueberry.common.dto;
 
 import com.bluestarfish.blueberry.common.entity.UserRoom;
+import com.bluestarfish.blueberry.common.serializer.SecondsDeserializer;
 import com.bluestarfish.blueberry.room.entity.Room;
 import com.bluestarfish.blueberry.user.entity.User;
-import java.sql.Time;
+import com.fasterxml.jackson.databind.annotation.JsonDeserialize;
 import lombok.AllArgsConstructor;
 import lombok.Builder;
 import lombok.Getter;
@@ -24,8 +25,10 @@ public class UserRoomRequest {
     private boolean camEnabled;
     private boolean micEnabled;
     private boolean speakerEnabled;
-    private Time goalTime;
-    private Time dayTime;
+    @JsonDeserialize(using = SecondsDeserializer.class)
+    private long goalTime;
+    @JsonDeserialize(using = SecondsDeserializer.class)
+    private long dayTime;
     private String password;
 
     public UserRoom toEntity(User user, Room room) {
@@ -37,8 +40,8 @@ public class UserRoomRequest {
                 .camEnabled(camEnabled)
                 .micEnabled(micEnabled)
                 .speakerEnabled(speakerEnabled)
-                .goalTime(goalTime)
-                .dayTime(dayTime)
+                .goalSeconds(Math.toIntExact(goalTime))
+                .daySeconds(Math.toIntExact(dayTime))
                 .build();
     }
 }
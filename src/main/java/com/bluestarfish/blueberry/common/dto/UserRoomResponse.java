@@ -4,13 +4,17 @@ import com.bluestarfish.blueberry.common.entity.UserRoom;
 import com.bluestarfish.blueberry.user.entity.User;
 import com.fasterxml.jackson.annotation.JsonFormat;
 import java.time.LocalDateTime;
+import lombok.AllArgsConstructor;
 import lombok.Builder;
 import lombok.Getter;
+import lombok.NoArgsConstructor;
 import lombok.Setter;
 
 @Getter
 @Setter
 @Builder
+@NoArgsConstructor
+@AllArgsConstructor
 public class UserRoomResponse {
     private Long userId;
     private String email;
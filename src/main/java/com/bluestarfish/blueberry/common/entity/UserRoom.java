@@ -10,7 +10,7 @@ import lombok.Setter;
 import org.hibernate.annotations.OnDelete;
 import org.hibernate.annotations.OnDeleteAction;
 
-import java.sql.Time;
+import java.time.LocalDate;
 import java.time.LocalDateTime;
 
 
@@ -19,7 +19,8 @@ import java.time.LocalDateTime;
 @Entity
 @NoArgsConstructor
 @Table(
-        name = "users_rooms"
+        name = "users_rooms",
+        uniqueConstraints = @UniqueConstraint(name = "uk_users_rooms_room_user", columnNames = {"room_id", "user_id"})
 )
 public class UserRoom {
     @Id
@@ -27,12 +28,12 @@ public class UserRoom {
     @Column(unique = true, nullable = false)
     private Long id;
 
-    @ManyToOne
+    @ManyToOne(fetch = FetchType.LAZY)
     @JoinColumn(name = "user_id", nullable = false)
     @OnDelete(action = OnDeleteAction.CASCADE)
     private User user;
 
-    @ManyToOne
+    @ManyToOne(fetch = FetchType.LAZY)
     @JoinColumn(name = "room_id", nullable = false)
     @OnDelete(action = OnDeleteAction.CASCADE)
     private Room room;
@@ -52,11 +53,15 @@ public class UserRoom {
     @Column(name = "speaker_enabled", nullable = false)
     private boolean speakerEnabled;
 
-    @Column(name = "goal_time", nullable = false)
-    private Time goalTime;
+    @Column(name = "goal_seconds", nullable = false)
+    private int goalSeconds;
 
-    @Column(name = "day_time", nullable = false)
-    private Time dayTime;
+    @Column(name = "day_seconds", nullable = false)
+    private int daySeconds;
+
+    // day_seconds 가 집계된 날짜
+    @Column(name = "day_date")
+    private LocalDate dayDate;
 
     @Column(name = "created_at", nullable = false)
     private LocalDateTime createdAt;
@@ -85,8 +90,8 @@ public class UserRoom {
             boolean camEnabled,
             boolean micEnabled,
             boolean speakerEnabled,
-            Time goalTime,
-            Time dayTime
+            int goalSeconds,
+            int daySeconds
     ) {
         this.user = user;
         this.room = room;
@@ -95,8 +100,8 @@ public class UserRoom {
         this.camEnabled = camEnabled;
         this.micEnabled = micEnabled;
         this.speakerEnabled = speakerEnabled;
-        this.goalTime = goalTime;
-        this.dayTime = dayTime;
+        this.goalSeconds = goalSeconds;
+        this.daySeconds = daySeconds;
     }
 
 
@@ -1,9 +1,14 @@
 package com.bluestarfish.blueberry.common.repository;
 
 import com.bluestarfish.blueberry.common.entity.Feedback;
+import java.util.List;
+import org.springframework.data.jpa.repository.EntityGraph;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.stereotype.Repository;
 
 @Repository
 public interface FeedbackRepository extends JpaRepository<Feedback, Long> {
+    @Override
+    @EntityGraph(attributePaths = "user")
+    List<Feedback> findAll();
 }
@@ -1,5 +1,12 @@
 package com.bluestarfish.blueberry.common.repository;
 
+import com.bluestarfish.blueberry.common.dto.UserRoomResponse;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+
 public interface UserRoomCustomRepository {
-    int countActiveMembersByRoomId(Long roomId);
+    Map<Long, List<UserRoomResponse>> findActiveParticipantsGroupByRoomId();
+
+    Optional<UserRoomResponse> findParticipant(Long roomId, Long userId);
 }
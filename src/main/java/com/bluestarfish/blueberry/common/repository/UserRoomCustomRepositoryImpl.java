@@ -1,10 +1,21 @@
 package com.bluestarfish.blueberry.common.repository;
 
+import com.bluestarfish.blueberry.common.dto.UserRoomResponse;
 import com.bluestarfish.blueberry.common.entity.QUserRoom;
+import com.bluestarfish.blueberry.user.entity.QUser;
+import com.querydsl.core.Tuple;
+import com.querydsl.core.types.Projections;
+import com.querydsl.core.types.QBean;
 import com.querydsl.jpa.impl.JPAQueryFactory;
 import lombok.RequiredArgsConstructor;
 import org.springframework.stereotype.Repository;
 
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+
 @Repository
 @RequiredArgsConstructor
 public class UserRoomCustomRepositoryImpl implements UserRoomCustomRepository {
@@ -12,15 +23,57 @@ public class UserRoomCustomRepositoryImpl implements UserRoomCustomRepository {
     private final JPAQueryFactory jpaQueryFactory;
 
     @Override
-    public int countActiveMembersByRoomId(Long roomId) {
+    public Map<Long, List<UserRoomResponse>> findActiveParticipantsGroupByRoomId() {
         QUserRoom userRoom = QUserRoom.userRoom;
+        QUser user = QUser.user;
+        QBean<UserRoomResponse> participant = Projections.fields(UserRoomResponse.class,
+                user.id.as("userId"),
+                user.email,
+                user.nickname,
+                user.profileImage,
+                userRoom.isHost,
+                userRoom.camEnabled,
+                userRoom.micEnabled,
+                userRoom.speakerEnabled
+        );
 
-        Long count = jpaQueryFactory
-                .select(userRoom.count())
+        // 전체 방의 활성 참여자를 users 조인 한 번으로 조회
+        List<Tuple> rows = jpaQueryFactory
+                .select(userRoom.room.id, participant)
                 .from(userRoom)
-                .where(userRoom.room.id.eq(roomId)
-                        .and(userRoom.isActive.isTrue()))
-                .fetchOne();
-        return (count != null) ? count.intValue() : 0;
+                .join(userRoom.user, user)
+                .where(userRoom.isActive.isTrue())
+                .fetch();
+
+        Map<Long, List<UserRoomResponse>> activeParticipants = new HashMap<>();
+        for (Tuple row : rows) {
+            activeParticipants.computeIfAbsent(row.get(userRoom.room.id), roomId -> new ArrayList<>())
+                    .add(row.get(participant));
+        }
+        return activeParticipants;
+    }
+
+    @Override
+    public Optional<UserRoomResponse> findParticipant(Long roomId, Long userId) {
+        QUserRoom userRoom = QUserRoom.userRoom;
+        QUser user = QUser.user;
+
+        // 아직 입장 기록이 없는 유저도 조회되도록 users 기준으로 조인
+        return Optional.ofNullable(jpaQueryFactory
+                .select(Projections.fields(UserRoomResponse.class,
+                        user.id.as("userId"),
+                        user.email,
+                        user.nickname,
+                        user.profileImage,
+                        userRoom.isHost.coalesce(false).as("isHost"),
+                        userRoom.camEnabled.coalesce(false).as("camEnabled"),
+                        userRoom.micEnabled.coalesce(false).as("micEnabled"),
+                        userRoom.speakerEnabled.coalesce(false).as("speakerEnabled")
+                ))
+                .from(user)
+                .leftJoin(userRoom).on(userRoom.user.id.eq(user.id)
+                        .and(userRoom.room.id.eq(roomId)))
+                .where(user.id.eq(userId))
+                .fetchOne());
     }
 }
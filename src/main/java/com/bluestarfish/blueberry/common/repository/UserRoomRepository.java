@@ -1,15 +1,35 @@
 package com.bluestarfish.blueberry.common.repository;
 
 import com.bluestarfish.blueberry.common.entity.UserRoom;
-import java.util.List;
 import java.util.Optional;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
 @Repository
 public interface UserRoomRepository extends JpaRepository<UserRoom, Long>, UserRoomCustomRepository {
 
     Optional<UserRoom> findByRoomIdAndUserId(Long roomId, Long userId);
-    List<UserRoom> findByRoomIdAndIsActiveTrue(Long roomId);
     UserRoom findByRoomIdAndIsHostTrue(Long id);
+
+    // 첫 입장이면 생성, 재입장이면 활성화 (room_id, user_id 유니크 제약 기준)
+    // 방별 하루 공부시간은 서버가 집계하므로 새 날짜의 첫 입장이면 0 부터 시작
+    @Modifying
+    @Query(value = "INSERT INTO users_rooms "
+            + "(user_id, room_id, is_host, is_active, cam_enabled, mic_enabled, speaker_enabled, goal_seconds, day_seconds, day_date, created_at, updated_at) "
+            + "VALUES (:userId, :roomId, :isHost, true, :camEnabled, :micEnabled, :speakerEnabled, "
+            + ":goalSeconds, 0, CURDATE(), NOW(), NOW()) "
+            + "ON DUPLICATE KEY UPDATE is_active = true, "
+            + "day_seconds = IF(day_date = CURDATE(), day_seconds, 0), day_date = CURDATE(), updated_at = NOW()", nativeQuery = true)
+    void upsertActive(
+            @Param("roomId") Long roomId,
+            @Param("userId") Long userId,
+            @Param("isHost") boolean isHost,
+            @Param("camEnabled") boolean camEnabled,
+            @Param("micEnabled") boolean micEnabled,
+            @Param("speakerEnabled") boolean speakerEnabled,
+            @Param("goalSeconds") long goalSeconds
+    );
 }
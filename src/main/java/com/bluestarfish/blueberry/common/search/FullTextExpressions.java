@@ -0,0 +1,66 @@
+package com.bluestarfish.blueberry.common.search;
+
+import com.querydsl.core.types.dsl.BooleanExpression;
+import com.querydsl.core.types.dsl.Expressions;
+import com.querydsl.core.types.dsl.NumberExpression;
+import com.querydsl.core.types.dsl.StringPath;
+
+import java.util.Arrays;
+import java.util.stream.Collectors;
+
+public final class FullTextExpressions {
+    static final String MATCH_ONE_COLUMN = "match_against_1";
+    static final String MATCH_TWO_COLUMNS = "match_against_2";
+
+    // MySQL ngram_token_size 기본값과 동일: 이보다 짧은 검색어는 FULLTEXT 인덱스로 찾을 수 없음
+    private static final int NGRAM_TOKEN_SIZE = 2;
+    private static final String BOOLEAN_MODE_OPERATORS = "[+\\-<>()~*\"@]";
+
+    private FullTextExpressions() {
+    }
+
+    public static boolean isSearchable(String keyword) {
+        return !toBooleanQuery(keyword).isEmpty();
+    }
+
+    // 검색어가 너무 짧으면 LIKE 로 대체
+    public static BooleanExpression matches(String keyword, StringPath... columns) {
+        if (!isSearchable(keyword)) {
+            BooleanExpression like = null;
+            for (StringPath column : columns) {
+                like = (like == null) ? column.contains(keyword) : like.or(column.contains(keyword));
+            }
+            return like;
+        }
+        return relevance(keyword, columns).gt(0);
+    }
+
+    public static NumberExpression<Double> relevance(String keyword, StringPath... columns) {
+        String query = toBooleanQuery(keyword);
+
+        if (columns.length == 1) {
+            return Expressions.numberTemplate(Double.class,
+                    MATCH_ONE_COLUMN + "({0}, {1})", columns[0], Expressions.constant(query));
+        }
+        if (columns.length == 2) {
+            return Expressions.numberTemplate(Double.class,
+                    MATCH_TWO_COLUMNS + "({0}, {1}, {2})", columns[0], columns[1], Expressions.constant(query));
+        }
+        throw new IllegalArgumentException("Full-text match supports one or two columns");
+    }
+
+    // 연산자 문자를 제거하고 모든 단어를 필수(+) 조건으로 묶음 (ngram 파서는 각 단어를 구문 검색으로 처리)
+    // 짧은 단어를 빼고 검색하면 그 단어가 없는 결과까지 나오므로, 하나라도 짧으면 빈 문자열(LIKE 대체)
+    static String toBooleanQuery(String keyword) {
+        if (keyword == null) {
+            return "";
+        }
+        String[] words = keyword.replaceAll(BOOLEAN_MODE_OPERATORS, " ").trim().split("\\s+");
+        if (Arrays.stream(words).anyMatch(word -> word.length() < NGRAM_TOKEN_SIZE)) {
+            return "";
+        }
+        return Arrays.stream(words)
+                .map(word -> "+" + word)
+                .collect(Collectors.joining(" "));
+    }
+}
@@ -0,0 +1,30 @@
+package com.bluestarfish.blueberry.common.search;
+
+import org.hibernate.boot.model.FunctionContributions;
+import org.hibernate.boot.model.FunctionContributor;
+import org.hibernate.query.sqm.function.SqmFunctionRegistry;
+import org.hibernate.type.BasicType;
+import org.hibernate.type.StandardBasicTypes;
+
+// MySQL MATCH ... AGAINST 를 HQL/QueryDSL 에서 호출할 수 있도록 등록 (META-INF/services 로 로딩)
+public class FullTextFunctionContributor implements FunctionContributor {
+
+    @Override
+    public void contributeFunctions(FunctionContributions functionContributions) {
+        SqmFunctionRegistry registry = functionContributions.getFunctionRegistry();
+        BasicType<Double> doubleType = functionContributions.getTypeConfiguration()
+                .getBasicTypeRegistry()
+                .resolve(StandardBasicTypes.DOUBLE);
+
+        registry.registerPattern(
+                FullTextExpressions.MATCH_ONE_COLUMN,
+                "match(?1) against(?2 in boolean mode)",
+                doubleType
+        );
+        registry.registerPattern(
+                FullTextExpressions.MATCH_TWO_COLUMNS,
+                "match(?1, ?2) against(?3 in boolean mode)",
+                doubleType
+        );
+    }
+}
@@ -0,0 +1,43 @@
+package com.bluestarfish.blueberry.common.search;
+
+import jakarta.annotation.PostConstruct;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.context.annotation.DependsOn;
+import org.springframework.dao.DataAccessException;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Component;
+
+// JPA @Index 로는 FULLTEXT(ngram) 인덱스를 만들 수 없어 기동 시 없으면 생성
+// 인덱스가 없으면 MATCH ... AGAINST 검색이 실패하므로 요청을 받기 전(테이블 생성 직후)에 실행
+@Slf4j
+@Component
+@DependsOn("entityManagerFactory")
+@RequiredArgsConstructor
+public class FullTextIndexInitializer {
+    private static final String EXISTS_INDEX_SQL = "SELECT COUNT(*) FROM information_schema.statistics "
+            + "WHERE table_schema = DATABASE() AND table_name = ? AND index_name = ?";
+
+    private final JdbcTemplate jdbcTemplate;
+
+    @PostConstruct
+    public void createIndexes() {
+        createIfAbsent("rooms", "ft_rooms_title_description", "title, description");
+        createIfAbsent("posts", "ft_posts_title_content", "title, content");
+        createIfAbsent("users", "ft_users_nickname", "nickname");
+    }
+
+    private void createIfAbsent(String table, String indexName, String columns) {
+        try {
+            Integer count = jdbcTemplate.queryForObject(EXISTS_INDEX_SQL, Integer.class, table, indexName);
+            if (count != null && count > 0) {
+                return;
+            }
+            jdbcTemplate.execute(String.format(
+                    "ALTER TABLE %s ADD FULLTEXT INDEX %s (%s) WITH PARSER ngram", table, indexName, columns));
+            log.info("FULLTEXT 인덱스 생성: {}.{}", table, indexName);
+        } catch (DataAccessException e) {
+            log.warn("FULLTEXT 인덱스 생성 실패: {}.{}", table, indexName, e);
+        }
+    }
+}
@@ -0,0 +1,66 @@
+package com.bluestarfish.blueberry.common.search;
+
+import com.bluestarfish.blueberry.post.entity.QPost;
+import com.querydsl.core.types.EntityPath;
+import com.querydsl.core.types.OrderSpecifier;
+import com.querydsl.core.types.dsl.BooleanExpression;
+import com.querydsl.core.types.dsl.NumberExpression;
+import com.querydsl.core.types.dsl.NumberPath;
+import com.querydsl.jpa.impl.JPAQueryFactory;
+import lombok.RequiredArgsConstructor;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.support.PageableExecutionUtils;
+import org.springframework.stereotype.Component;
+
+import java.util.List;
+
+// 게시글 제목/본문 검색 결과를 관련도 순 id 로 반환 (검색어가 짧으면 최신순 LIKE 검색)
+// 방/닉네임 검색은 다른 조건과 함께 쓰이므로 각 저장소에서 FullTextExpressions 를 직접 사용
+@Component
+@RequiredArgsConstructor
+public class FullTextSearchEngine {
+
+    private final JPAQueryFactory jpaQueryFactory;
+
+    public Page<Long> searchPostIds(String keyword, Pageable pageable) {
+        QPost post = QPost.post;
+        return searchIds(
+                post,
+                post.id,
+                post.deletedAt.isNull().and(FullTextExpressions.matches(keyword, post.title, post.content)),
+                FullTextExpressions.isSearchable(keyword) ? FullTextExpressions.relevance(keyword, post.title, post.content) : null,
+                pageable
+        );
+    }
+
+    private Page<Long> searchIds(
+            EntityPath<?> entity,
+            NumberPath<Long> id,
+            BooleanExpression condition,
+            NumberExpression<Double> relevance,
+            Pageable pageable
+    ) {
+        List<Long> ids = jpaQueryFactory
+                .select(id)
+                .from(entity)
+                .where(condition)
+                .orderBy(orderBy(id, relevance))
+                .offset(pageable.getOffset())
+                .limit(pageable.getPageSize())
+                .fetch();
+
+        return PageableExecutionUtils.getPage(ids, pageable, () -> jpaQueryFactory
+                .select(id.count())
+                .from(entity)
+                .where(condition)
+                .fetchOne());
+    }
+
+    private OrderSpecifier<?>[] orderBy(NumberPath<Long> id, NumberExpression<Double> relevance) {
+        if (relevance == null) {
+            return new OrderSpecifier<?>[]{id.desc()};
+        }
+        return new OrderSpecifier<?>[]{relevance.desc(), id.desc()};
+    }
+}
@@ -0,0 +1,46 @@
+package com.bluestarfish.blueberry.common.serializer;
+
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.core.JsonToken;
+import com.fasterxml.jackson.databind.DeserializationContext;
+import com.fasterxml.jackson.databind.JsonDeserializer;
+
+import java.io.IOException;
+
+// 기존 요청 형식("HH:mm:ss")과 초 단위 숫자를 모두 받아 초로 변환, 값이 없으면 0초
+public class SecondsDeserializer extends JsonDeserializer<Long> {
+    @Override
+    public Long deserialize(JsonParser p, DeserializationContext ctxt) throws IOException {
+        if (p.hasToken(JsonToken.VALUE_NUMBER_INT)) {
+            return p.getLongValue();
+        }
+
+        String text = p.getValueAsString();
+        if (text == null || text.isBlank()) {
+            return 0L;
+        }
+
+        String[] parts = text.trim().split(":");
+        if (parts.length != 3) {
+            return (Long) ctxt.handleWeirdStringValue(Long.class, text, "expected HH:mm:ss");
+        }
+
+        try {
+            long hours = Long.parseLong(parts[0]);
+            int minutes = Integer.parseInt(parts[1]);
+            int seconds = Integer.parseInt(parts[2]);
+            if (hours < 0 || minutes < 0 || minutes > 59 || seconds < 0 || seconds > 59) {
+                return (Long) ctxt.handleWeirdStringValue(Long.class, text, "expected HH:mm:ss");
+            }
+
+            return hours * 3600 + minutes * 60L + seconds;
+        } catch (NumberFormatException e) {
+            return (Long) ctxt.handleWeirdStringValue(Long.class, text, "expected HH:mm:ss");
+        }
+    }
+
+    @Override
+    public Long getNullValue(DeserializationContext ctxt) {
+        return 0L;
+    }
+}
@@ -0,0 +1,32 @@
+package com.bluestarfish.blueberry.common.serializer;
+
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.databind.JsonSerializer;
+import com.fasterxml.jackson.databind.SerializerProvider;
+
+import java.io.IOException;
+
+// 초 단위 시간을 기존 응답 형식("HH:mm:ss")으로 직렬화, 24시간을 넘으면 시간 자리가 늘어남 (예: 168:30:00)
+public class SecondsSerializer extends JsonSerializer<Number> {
+    @Override
+    public void serialize(Number value, JsonGenerator gen, SerializerProvider serializers) throws IOException {
+        gen.writeString(format(value.longValue()));
+    }
+
+    public static String format(long seconds) {
+        StringBuilder time = new StringBuilder(8);
+
+        appendTwoDigits(time, seconds / 3600).append(':');
+        appendTwoDigits(time, seconds / 60 % 60).append(':');
+        appendTwoDigits(time, seconds % 60);
+
+        return time.toString();
+    }
+
+    private static StringBuilder appendTwoDigits(StringBuilder time, long value) {
+        if (value < 10) {
+            time.append('0');
+        }
+        return time.append(value);
+    }
+}
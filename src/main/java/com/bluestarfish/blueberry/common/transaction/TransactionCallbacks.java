@@ -0,0 +1,39 @@
+package com.bluestarfish.blueberry.common.transaction;
+
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+public final class TransactionCallbacks {
+
+    private TransactionCallbacks() {
+    }
+
+    // 진행 중인 트랜잭션이 커밋된 뒤에 실행, 트랜잭션 밖이면 바로 실행
+    public static void afterCommit(Runnable callback) {
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            callback.run();
+            return;
+        }
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCommit() {
+                callback.run();
+            }
+        });
+    }
+
+    // 진행 중인 트랜잭션이 롤백된 뒤에 실행, 트랜잭션 밖이면 되돌릴 것이 없으므로 실행하지 않음
+    public static void afterRollback(Runnable callback) {
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            return;
+        }
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCompletion(int status) {
+                if (status == STATUS_ROLLED_BACK) {
+                    callback.run();
+                }
+            }
+        });
+    }
+}
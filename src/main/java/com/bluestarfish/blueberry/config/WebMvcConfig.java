@@ -0,0 +1,31 @@
+package com.bluestarfish.blueberry.config;
+
+import com.bluestarfish.blueberry.jwt.CurrentUserIdArgumentResolver;
+import lombok.RequiredArgsConstructor;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.web.method.support.HandlerMethodArgumentResolver;
+import org.springframework.web.servlet.config.annotation.AsyncSupportConfigurer;
+import org.springframework.web.servlet.config.annotation.WebMvcConfigurer;
+
+import java.util.List;
+
+@Configuration
+@RequiredArgsConstructor
+public class WebMvcConfig implements WebMvcConfigurer {
+    private final CurrentUserIdArgumentResolver currentUserIdArgumentResolver;
+
+    @Value("${web.async.request-timeout:600000}")
+    private long asyncRequestTimeout;
+
+    // 공부기록 내보내기 같은 스트리밍 응답이 컨테이너 기본 타임아웃(30초)에 끊기지 않도록 설정
+    @Override
+    public void configureAsyncSupport(AsyncSupportConfigurer configurer) {
+        configurer.setDefaultTimeout(asyncRequestTimeout);
+    }
+
+    @Override
+    public void addArgumentResolvers(List<HandlerMethodArgumentResolver> resolvers) {
+        resolvers.add(currentUserIdArgumentResolver);
+    }
+}
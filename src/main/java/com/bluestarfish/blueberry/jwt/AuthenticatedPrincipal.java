@@ -0,0 +1,18 @@
+package com.bluestarfish.blueberry.jwt;
+
+import java.time.Instant;
+
+// 서명 검증을 마친 액세스 토큰의 내용, 인가 필터가 요청 속성과 SecurityContext 에 담아둠
+// familyId/generation 은 함께 발급된 리프레쉬 토큰의 패밀리와 세대 (패밀리 도입 전 토큰은 familyId 가 없음)
+public record AuthenticatedPrincipal(
+        Long userId,
+        String familyId,
+        int generation,
+        Instant expiresAt
+) {
+    public static final String REQUEST_ATTRIBUTE = AuthenticatedPrincipal.class.getName();
+
+    public boolean isExpired() {
+        return expiresAt != null && expiresAt.isBefore(Instant.now());
+    }
+}
@@ -0,0 +1,12 @@
+package com.bluestarfish.blueberry.jwt;
+
+import java.lang.annotation.ElementType;
+import java.lang.annotation.Retention;
+import java.lang.annotation.RetentionPolicy;
+import java.lang.annotation.Target;
+
+// 인가 필터가 검증한 토큰의 유저 ID 를 컨트롤러 파라미터로 주입
+@Target(ElementType.PARAMETER)
+@Retention(RetentionPolicy.RUNTIME)
+public @interface CurrentUserId {
+}
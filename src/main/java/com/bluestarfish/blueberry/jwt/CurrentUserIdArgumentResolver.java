@@ -0,0 +1,55 @@
+package com.bluestarfish.blueberry.jwt;
+
+import com.bluestarfish.blueberry.exception.CustomException;
+import com.bluestarfish.blueberry.exception.ExceptionDomain;
+import jakarta.servlet.http.Cookie;
+import jakarta.servlet.http.HttpServletRequest;
+import lombok.RequiredArgsConstructor;
+import org.springframework.core.MethodParameter;
+import org.springframework.http.HttpStatus;
+import org.springframework.stereotype.Component;
+import org.springframework.web.bind.support.WebDataBinderFactory;
+import org.springframework.web.context.request.NativeWebRequest;
+import org.springframework.web.method.support.HandlerMethodArgumentResolver;
+import org.springframework.web.method.support.ModelAndViewContainer;
+import org.springframework.web.util.WebUtils;
+
+import java.net.URLDecoder;
+import java.nio.charset.StandardCharsets;
+
+@Component
+@RequiredArgsConstructor
+public class CurrentUserIdArgumentResolver implements HandlerMethodArgumentResolver {
+    private static final String ACCESS_TOKEN_KEY = "Authorization";
+
+    private final JWTUtils jwtUtils;
+
+    @Override
+    public boolean supportsParameter(MethodParameter parameter) {
+        return parameter.hasParameterAnnotation(CurrentUserId.class)
+                && Long.class.equals(parameter.getParameterType());
+    }
+
+    @Override
+    public Long resolveArgument(
+            MethodParameter parameter,
+            ModelAndViewContainer mavContainer,
+            NativeWebRequest webRequest,
+            WebDataBinderFactory binderFactory
+    ) {
+        HttpServletRequest request = webRequest.getNativeRequest(HttpServletRequest.class);
+
+        Object principal = request.getAttribute(AuthenticatedPrincipal.REQUEST_ATTRIBUTE);
+        if (principal instanceof AuthenticatedPrincipal authenticatedPrincipal) {
+            return authenticatedPrincipal.userId();
+        }
+
+        // 인가 필터를 거치지 않는 URL(whoami, 로그아웃 등)은 쿠키의 토큰을 직접 확인 (검증 결과는 JWTUtils 가 캐싱)
+        // 여기서는 리프레쉬 토큰 교체를 거치지 않으므로 만료된 토큰은 getId 가 거절
+        Cookie cookie = WebUtils.getCookie(request, ACCESS_TOKEN_KEY);
+        if (cookie == null) {
+            throw new CustomException("The cookie containing the user ID is absent", ExceptionDomain.AUTH, HttpStatus.UNAUTHORIZED);
+        }
+        return jwtUtils.getId(URLDecoder.decode(cookie.getValue(), StandardCharsets.UTF_8));
+    }
+}
@@ -1,11 +1,9 @@
 package com.bluestarfish.blueberry.jwt;
 
-import com.bluestarfish.blueberry.auth.entity.RefreshToken;
-import com.bluestarfish.blueberry.auth.repository.RefreshTokenRepository;
+import com.bluestarfish.blueberry.auth.token.RefreshTokenManager;
 import com.bluestarfish.blueberry.exception.CustomException;
 import com.bluestarfish.blueberry.exception.ExceptionDomain;
-import com.bluestarfish.blueberry.user.entity.User;
-import com.bluestarfish.blueberry.user.repository.UserRepository;
+import com.bluestarfish.blueberry.user.cache.UserStatusCache;
 import jakarta.servlet.FilterChain;
 import jakarta.servlet.ServletException;
 import jakarta.servlet.http.Cookie;
@@ -13,8 +11,9 @@ import jakarta.servlet.http.HttpServletRequest;
 import jakarta.servlet.http.HttpServletResponse;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
-import org.springframework.dao.EmptyResultDataAccessException;
 import org.springframework.http.HttpStatus;
+import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
+import org.springframework.security.core.context.SecurityContextHolder;
 import org.springframework.stereotype.Component;
 import org.springframework.web.filter.OncePerRequestFilter;
 
@@ -23,9 +22,7 @@ import java.net.URLDecoder;
 import java.net.URLEncoder;
 import java.nio.charset.StandardCharsets;
 import java.util.Arrays;
-import java.util.HashMap;
 import java.util.List;
-import java.util.Map;
 
 import static com.bluestarfish.blueberry.util.CookieCreator.removeAuthCookie;
 
@@ -37,7 +34,6 @@ public class JWTFilter extends OncePerRequestFilter {
     private static final String HTTP_METHOD_GET = "GET";
     private static final String HTTP_METHOD_POST = "POST";
     private static final String HTTP_METHOD_PATCH = "PATCH";
-    private static final String HTTP_METHOD_DELETE = "DELETE";
     private static final String HEALTH_CHECK_URL = "/api/v1/health";
     private static final String FEEDBACK_URL = "/api/v1/feedback";
     private static final String LOGIN_URL = "/api/v1/auth/login";
@@ -48,34 +44,33 @@ public class JWTFilter extends OncePerRequestFilter {
     private static final String VALIDATE_NICKNAME_URL = "/api/v1/users/nickname";
     private static final String RESET_PASSWORD_URL = "/api/v1/users/password";
     private static final String FIND_ROOMS_URL = "/api/v1/rooms";
+    private static final String SCROLL_ROOMS_URL = "/api/v1/rooms/scroll";
     private static final String FIND_POSTS_URL = "/api/v1/posts";
-    private static final String OAUTH_REDIRECT_URL = "/login/oauth2/code/kakao";
-
-
-    private static final Map<String, List<String>> excludedUrls;
-
-    static {
-        Map<String, List<String>> tempMap = new HashMap<>();
-        tempMap.put(HEALTH_CHECK_URL, List.of(HTTP_METHOD_GET));
-        tempMap.put(FEEDBACK_URL, List.of(HTTP_METHOD_GET, HTTP_METHOD_POST));
-        tempMap.put(LOGIN_URL, List.of(HTTP_METHOD_POST));
-        tempMap.put(LOGOUT_URL, List.of(HTTP_METHOD_POST));
-        tempMap.put(MAIL_AUTH_URL, List.of(HTTP_METHOD_GET, HTTP_METHOD_POST));
-        tempMap.put(JOIN_URL, List.of(HTTP_METHOD_POST));
-        tempMap.put(VALIDATE_NICKNAME_URL, List.of(HTTP_METHOD_GET));
-        tempMap.put(RESET_PASSWORD_URL, List.of(HTTP_METHOD_PATCH));
-        tempMap.put(FIND_ROOMS_URL, List.of(HTTP_METHOD_GET));
-        tempMap.put(FIND_POSTS_URL, List.of(HTTP_METHOD_GET));
-        tempMap.put(OAUTH_REDIRECT_URL, List.of(HTTP_METHOD_GET));
-        tempMap.put(WHOAMI_URL, List.of(HTTP_METHOD_GET));
-
-        excludedUrls = tempMap;
-    }
+    private static final String SEARCH_POSTS_URL = "/api/v1/posts/search";
+    private static final String OAUTH_LOGIN_URLS = "/login/oauth2/**";
+
+    // 인가 없이 통과시키는 경로, 시작 시 한 번 트라이로 만들어 두고 요청마다 그대로 매칭
+    private static final RouteMatcher excludedRoutes = RouteMatcher.builder()
+            .add(HEALTH_CHECK_URL, HTTP_METHOD_GET)
+            .add(FEEDBACK_URL, HTTP_METHOD_GET, HTTP_METHOD_POST)
+            .add(LOGIN_URL, HTTP_METHOD_POST)
+            .add(LOGOUT_URL, HTTP_METHOD_POST)
+            .add(MAIL_AUTH_URL, HTTP_METHOD_GET, HTTP_METHOD_POST)
+            .add(JOIN_URL, HTTP_METHOD_POST)
+            .add(VALIDATE_NICKNAME_URL, HTTP_METHOD_GET)
+            .add(RESET_PASSWORD_URL, HTTP_METHOD_PATCH)
+            .add(FIND_ROOMS_URL, HTTP_METHOD_GET)
+            .add(SCROLL_ROOMS_URL, HTTP_METHOD_GET)
+            .add(FIND_POSTS_URL, HTTP_METHOD_GET)
+            .add(SEARCH_POSTS_URL, HTTP_METHOD_GET)
+            .add(OAUTH_LOGIN_URLS)
+            .add(WHOAMI_URL, HTTP_METHOD_GET)
+            .build();
 
 
     private final JWTUtils jwtUtils;
-    private final RefreshTokenRepository refreshTokenRepository;
-    private final UserRepository userRepository;
+    private final RefreshTokenManager refreshTokenManager;
+    private final UserStatusCache userStatusCache;
 
 
     @Override
@@ -85,16 +80,10 @@ public class JWTFilter extends OncePerRequestFilter {
             FilterChain filterChain
     ) throws ServletException, IOException {
         String requestUri = request.getRequestURI();
-        String method = request.getMethod();
-
-        log.info("인가 요청 URI => {}", requestUri);
 
-        if (excludedUrls.containsKey(requestUri) && excludedUrls.get(requestUri).contains(method)) {
-            filterChain.doFilter(request, response);
-            return;
-        }
+        log.debug("인가 요청 URI => {}", requestUri);
 
-        if (requestUri.contains("login")) {
+        if (excludedRoutes.matches(request.getMethod(), requestUri)) {
             filterChain.doFilter(request, response);
             return;
         }
@@ -111,73 +100,45 @@ public class JWTFilter extends OncePerRequestFilter {
                 .map(cookie -> URLDecoder.decode(cookie.getValue(), StandardCharsets.UTF_8))
                 .orElse(null);
 
-        Long userId = jwtUtils.getId(authorization);
-
-        User user = userRepository.findById(userId)
-                .orElseThrow(() -> new CustomException(
-                        "The user ID contained within the cookie is absent",
-                        ExceptionDomain.AUTH,
-                        HttpStatus.NOT_FOUND
-                ));
-
         if (!isToken(authorization)) {
             throw new CustomException("Invalid Token", ExceptionDomain.AUTH, HttpStatus.UNAUTHORIZED);
         }
 
-        try {
-            if (isExpired(authorization)) {
-                String refreshToken = findRefreshToken(userId).getToken();
-
-                if (isExpired(refreshToken)) {
-                    response.addCookie(removeAuthCookie());
-                    discardRefreshToken(userId);
-                    throw new CustomException("Refresh Token is expired", ExceptionDomain.AUTH, HttpStatus.UNAUTHORIZED);
-                }
-
-                // 리프레쉬 토큰이 살아있다면
-                JWTTokens jwtTokens = reissueJwt(userId);
-                discardRefreshToken(userId);
-                saveRefreshToken(user, jwtTokens.refreshToken());
-                response.addCookie(createCookie(ACCESS_TOKEN_KEY,
-                        URLEncoder.encode(jwtTokens.accessToken(), StandardCharsets.UTF_8)));
-            }
-
-            filterChain.doFilter(request, response);
-
-        } catch (EmptyResultDataAccessException e) {
-            throw new CustomException("Invalid access to token", ExceptionDomain.AUTH, HttpStatus.UNAUTHORIZED);
+        // 서명 검증이 끝난 토큰의 유저 ID 를 믿고, 유저 상태는 캐시로 확인 (DB 는 캐시 미스일 때만)
+        AuthenticatedPrincipal principal = jwtUtils.parseIncludingExpired(authorization);
+        Long userId = principal.userId();
+        if (!userStatusCache.isActive(userId)) {
+            throw new CustomException(
+                    "The user ID contained within the cookie is absent",
+                    ExceptionDomain.AUTH,
+                    HttpStatus.NOT_FOUND
+            );
         }
-    }
-
 
-    private JWTTokens reissueJwt(Long userId) {
-        return jwtUtils.createJwt(userId);
-    }
+        if (principal.isExpired()) {
+            // 리프레쉬 토큰이 살아있다면 새 토큰으로 교체
+            JWTTokens jwtTokens = reissueJwt(principal, response);
+            response.addCookie(createCookie(ACCESS_TOKEN_KEY,
+                    URLEncoder.encode(jwtTokens.accessToken(), StandardCharsets.UTF_8)));
+        }
 
-    private void saveRefreshToken(User user, String refreshToken) {
-        refreshTokenRepository.save(
-                RefreshToken.builder()
-                        .user(user)
-                        .token(refreshToken)
-                        .build()
+        // 이후 컨트롤러/서비스가 토큰을 다시 파싱하지 않도록 요청 단위로 보관
+        request.setAttribute(AuthenticatedPrincipal.REQUEST_ATTRIBUTE, principal);
+        SecurityContextHolder.getContext().setAuthentication(
+                new UsernamePasswordAuthenticationToken(principal, null, List.of())
         );
+        filterChain.doFilter(request, response);
     }
 
-    private void discardRefreshToken(Long userId) {
-        refreshTokenRepository.deleteByUserId(userId);
-    }
-
-    private RefreshToken findRefreshToken(Long userId) {
-        return refreshTokenRepository.findByUserId(userId)
-                .orElseThrow(() -> new CustomException(
-                        "No refresh token found for the user with " + userId,
-                        ExceptionDomain.AUTH,
-                        HttpStatus.UNAUTHORIZED
-                ));
-    }
 
-    private boolean isExpired(String token) {
-        return jwtUtils.isExpired(token);
+    // 리프레쉬 토큰이 만료/폐기/재사용된 경우 쿠키도 지워 다시 로그인하도록 함
+    private JWTTokens reissueJwt(AuthenticatedPrincipal principal, HttpServletResponse response) {
+        try {
+            return refreshTokenManager.rotate(principal);
+        } catch (CustomException e) {
+            response.addCookie(removeAuthCookie());
+            throw e;
+        }
     }
 
     private boolean isToken(String authorization) {
@@ -1,15 +1,23 @@
 package com.bluestarfish.blueberry.jwt;
 
+import com.bluestarfish.blueberry.exception.CustomException;
+import com.bluestarfish.blueberry.exception.ExceptionDomain;
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import io.jsonwebtoken.Claims;
 import io.jsonwebtoken.ExpiredJwtException;
+import io.jsonwebtoken.JwtParser;
 import io.jsonwebtoken.Jwts;
 import jakarta.annotation.PostConstruct;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.beans.factory.annotation.Value;
+import org.springframework.http.HttpStatus;
 import org.springframework.stereotype.Component;
 
 import javax.crypto.SecretKey;
 import javax.crypto.spec.SecretKeySpec;
 import java.nio.charset.StandardCharsets;
+import java.time.Duration;
 import java.util.Date;
 
 @Slf4j
@@ -17,6 +25,8 @@ import java.util.Date;
 public class JWTUtils {
     private static final String TOKEN_PREFIX = "Bearer ";
     private static final String USER_ID = "id";
+    private static final String FAMILY_ID = "fid";
+    private static final String GENERATION = "gen";
     private static final String TOKEN_KEY = "typ";
     private static final String TOKEN_VALUE = "JWT";
 
@@ -29,7 +39,15 @@ public class JWTUtils {
     @Value("${jwt.secretKey}")
     private String secret;
 
+    @Value("${jwt.claims-cache.max-size:10000}")
+    private long claimsCacheMaxSize;
+
+    @Value("${jwt.claims-cache.ttl:5m}")
+    private Duration claimsCacheTtl;
+
     private SecretKey secretKey;
+    private JwtParser parser;
+    private Cache<String, AuthenticatedPrincipal> principals;
 
     @PostConstruct
     public void init() {
@@ -37,64 +55,94 @@ public class JWTUtils {
                 secret.getBytes(StandardCharsets.UTF_8),
                 Jwts.SIG.HS256.key().build().getAlgorithm()
         );
+        // 파서는 불변이고 스레드 안전하므로 하나만 만들어 재사용
+        parser = Jwts.parser()
+                .verifyWith(secretKey)
+                .build();
+        // 같은 토큰은 TTL 동안 한 번만 서명 검증 (키가 토큰 전체이므로 서명만 같은 위조 토큰은 캐시에 걸리지 않음)
+        principals = Caffeine.newBuilder()
+                .maximumSize(claimsCacheMaxSize)
+                .expireAfterWrite(claimsCacheTtl)
+                .build();
     }
 
-    public Long getId(String token) {
+    // 만료된 토큰은 거절
+    public AuthenticatedPrincipal parse(String token) {
+        AuthenticatedPrincipal principal = parseIncludingExpired(token);
+        if (principal.isExpired()) {
+            throw new CustomException("Access Token is expired", ExceptionDomain.AUTH, HttpStatus.UNAUTHORIZED);
+        }
+        return principal;
+    }
+
+    // 서명은 검증하되 만료된 토큰도 그대로 반환, 리프레쉬 토큰 교체를 판단하는 인가 필터에서만 사용
+    public AuthenticatedPrincipal parseIncludingExpired(String token) {
         if (token.startsWith(TOKEN_PREFIX)) {
             token = token.substring(TOKEN_PREFIX.length());
         }
 
-        return Jwts
-                .parser()
-                .verifyWith(secretKey)
-                .build()
-                .parseSignedClaims(token)
-                .getPayload()
-                .get(USER_ID, Long.class);
+        return principals.get(token, this::verify);
+    }
+
+    public Long getId(String token) {
+        return parse(token).userId();
     }
 
     public boolean isExpired(String token) {
-        System.out.println(token);
-        if (token.startsWith(TOKEN_PREFIX)) {
-            token = token.substring(7);
-        }
+        return parseIncludingExpired(token).isExpired();
+    }
 
+    // 만료된 토큰도 서명 검증은 끝난 상태로 예외가 나므로 그 클레임을 그대로 사용 (만료 여부는 사용할 때 판단)
+    private AuthenticatedPrincipal verify(String token) {
+        Claims claims;
         try {
-            return Jwts
-                    .parser()
-                    .verifyWith(secretKey)
-                    .build()
-                    .parseSignedClaims(token)
-                    .getPayload()
-                    .getExpiration()
-                    .before(new Date());
-
+            claims = parser.parseSignedClaims(token).getPayload();
         } catch (ExpiredJwtException e) {
-            return false;
+            claims = e.getClaims();
         }
+
+        Date expiration = claims.getExpiration();
+        Integer generation = claims.get(GENERATION, Integer.class);
+        return new AuthenticatedPrincipal(
+                claims.get(USER_ID, Long.class),
+                claims.get(FAMILY_ID, String.class),
+                generation != null ? generation : 0,
+                expiration != null ? expiration.toInstant() : null
+        );
     }
 
-    public JWTTokens createJwt(Long userId) {
-        String accessToken = TOKEN_PREFIX + Jwts.builder()
+    // 액세스 토큰에 리프레쉬 토큰 패밀리와 세대를 담아, 만료 시 어떤 리프레쉬 토큰으로 교체할지 판단
+    public JWTTokens createJwt(Long userId, String familyId, int generation) {
+        String refreshToken = TOKEN_PREFIX + Jwts.builder()
                 .header()
                 .add(TOKEN_KEY, TOKEN_VALUE)
                 .and()
                 .claim(USER_ID, userId)
+                .claim(FAMILY_ID, familyId)
+                .claim(GENERATION, generation)
                 .issuedAt(new Date(System.currentTimeMillis()))
-                .expiration(new Date(System.currentTimeMillis() + expiredTime))
+                .expiration(new Date(System.currentTimeMillis() + refreshExpiredTime))
                 .signWith(secretKey)
                 .compact();
 
-        String refreshToken = TOKEN_PREFIX + Jwts.builder()
+        return new JWTTokens(createAccessToken(userId, familyId, generation), refreshToken);
+    }
+
+    public String createAccessToken(Long userId, String familyId, int generation) {
+        return TOKEN_PREFIX + Jwts.builder()
                 .header()
                 .add(TOKEN_KEY, TOKEN_VALUE)
                 .and()
                 .claim(USER_ID, userId)
+                .claim(FAMILY_ID, familyId)
+                .claim(GENERATION, generation)
                 .issuedAt(new Date(System.currentTimeMillis()))
-                .expiration(new Date(System.currentTimeMillis() + refreshExpiredTime))
+                .expiration(new Date(System.currentTimeMillis() + expiredTime))
                 .signWith(secretKey)
                 .compact();
+    }
 
-        return new JWTTokens(accessToken, refreshToken);
+    public Duration getRefreshExpiredTime() {
+        return Duration.ofMillis(refreshExpiredTime);
     }
 }
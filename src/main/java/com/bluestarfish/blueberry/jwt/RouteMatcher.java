@@ -0,0 +1,169 @@
+package com.bluestarfish.blueberry.jwt;
+
+import java.util.ArrayList;
+import java.util.List;
+
+// 경로 템플릿("/api/v1/rooms/{roomId}", "/login/**") 트라이, 노드마다 허용 HTTP 메서드를 비트마스크로 가짐
+// 시작 시 한 번 만들고 나면 불변이며, 매칭은 문자열을 자르지 않고 인덱스로만 비교하므로 요청마다 객체를 만들지 않음
+public final class RouteMatcher {
+    private static final String VARIABLE_PREFIX = "{";
+    private static final String CATCH_ALL = "**";
+    private static final String[] METHODS = {"GET", "HEAD", "POST", "PUT", "PATCH", "DELETE", "OPTIONS", "TRACE"};
+
+    private final Node root;
+
+    private RouteMatcher(Node root) {
+        this.root = root;
+    }
+
+    public static Builder builder() {
+        return new Builder();
+    }
+
+    public boolean matches(String method, String path) {
+        int methodBit = methodBit(method);
+        if (methodBit == 0 || path == null || path.isEmpty() || path.charAt(0) != '/') {
+            return false;
+        }
+        return match(root, path, 1, methodBit);
+    }
+
+    // start: 현재 세그먼트 시작 위치 ('/' 다음)
+    private static boolean match(Node node, String path, int start, int methodBit) {
+        if ((node.catchAllMethods & methodBit) != 0) {
+            return true;
+        }
+        if (start > path.length()) {
+            return (node.methods & methodBit) != 0;
+        }
+
+        int end = path.indexOf('/', start);
+        if (end < 0) {
+            end = path.length();
+        }
+        int length = end - start;
+
+        // 고정 세그먼트를 먼저 보고, 없으면 변수 세그먼트로
+        for (int i = 0; i < node.literals.length; i++) {
+            String literal = node.literals[i];
+            if (literal.length() == length && path.regionMatches(start, literal, 0, length)) {
+                if (match(node.children[i], path, end + 1, methodBit)) {
+                    return true;
+                }
+                break;
+            }
+        }
+        return length > 0 && node.variable != null && match(node.variable, path, end + 1, methodBit);
+    }
+
+    private static int methodBit(String method) {
+        if (method == null) {
+            return 0;
+        }
+        for (int i = 0; i < METHODS.length; i++) {
+            if (METHODS[i].equals(method)) {
+                return 1 << i;
+            }
+        }
+        return 0;
+    }
+
+    public static class Builder {
+        private final BuildNode root = new BuildNode();
+
+        // methods 를 비우면 모든 메서드 허용
+        public Builder add(String pathTemplate, String... methods) {
+            if (pathTemplate == null || !pathTemplate.startsWith("/")) {
+                throw new IllegalArgumentException("Path template must start with '/': " + pathTemplate);
+            }
+
+            int mask = 0;
+            for (String method : methods) {
+                int bit = methodBit(method);
+                if (bit == 0) {
+                    throw new IllegalArgumentException("Unknown HTTP method: " + method);
+                }
+                mask |= bit;
+            }
+            if (mask == 0) {
+                mask = (1 << METHODS.length) - 1;
+            }
+
+            String[] segments = pathTemplate.substring(1).split("/", -1);
+            BuildNode node = root;
+            for (int i = 0; i < segments.length; i++) {
+                String segment = segments[i];
+                if (CATCH_ALL.equals(segment)) {
+                    if (i != segments.length - 1) {
+                        throw new IllegalArgumentException("'**' must be the last segment: " + pathTemplate);
+                    }
+                    node.catchAllMethods |= mask;
+                    return this;
+                }
+                node = node.child(segment);
+            }
+            node.methods |= mask;
+            return this;
+        }
+
+        public RouteMatcher build() {
+            return new RouteMatcher(root.freeze());
+        }
+    }
+
+    private static final class Node {
+        private final String[] literals;
+        private final Node[] children;
+        private final Node variable;
+        private final int methods;
+        private final int catchAllMethods;
+
+        private Node(String[] literals, Node[] children, Node variable, int methods, int catchAllMethods) {
+            this.literals = literals;
+            this.children = children;
+            this.variable = variable;
+            this.methods = methods;
+            this.catchAllMethods = catchAllMethods;
+        }
+    }
+
+    private static final class BuildNode {
+        private final List<String> literals = new ArrayList<>();
+        private final List<BuildNode> children = new ArrayList<>();
+        private BuildNode variable;
+        private int methods;
+        private int catchAllMethods;
+
+        private BuildNode child(String segment) {
+            if (segment.startsWith(VARIABLE_PREFIX) && segment.endsWith("}")) {
+                if (variable == null) {
+                    variable = new BuildNode();
+                }
+                return variable;
+            }
+
+            int index = literals.indexOf(segment);
+            if (index >= 0) {
+                return children.get(index);
+            }
+            BuildNode child = new BuildNode();
+            literals.add(segment);
+            children.add(child);
+            return child;
+        }
+
+        private Node freeze() {
+            Node[] frozen = new Node[children.size()];
+            for (int i = 0; i < frozen.length; i++) {
+                frozen[i] = children.get(i).freeze();
+            }
+            return new Node(
+                    literals.toArray(new String[0]),
+                    frozen,
+                    variable != null ? variable.freeze() : null,
+                    methods,
+                    catchAllMethods
+            );
+        }
+    }
+}
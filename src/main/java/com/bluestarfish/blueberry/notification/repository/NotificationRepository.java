@@ -4,12 +4,28 @@ import com.bluestarfish.blueberry.notification.entity.Notification;
 import com.bluestarfish.blueberry.notification.enumeration.NotiStatus;
 import com.bluestarfish.blueberry.notification.enumeration.NotiType;
 import java.util.List;
+import java.util.Optional;
+import org.springframework.data.jpa.repository.EntityGraph;
 import org.springframework.data.jpa.repository.JpaRepository;
 
 public interface NotificationRepository extends JpaRepository<Notification, Long> {
+    @EntityGraph(attributePaths = {
+            "sender", "receiver", "room",
+            "comment", "comment.user", "comment.metionedUser",
+            "comment.post", "comment.post.user", "comment.post.room"
+    })
     List<Notification> findByReceiverIdAndDeletedAtIsNull(Long receiverId);
 
+    @EntityGraph(attributePaths = {
+            "sender", "receiver", "room",
+            "comment", "comment.user", "comment.metionedUser",
+            "comment.post", "comment.post.user", "comment.post.room"
+    })
+    Optional<Notification> findWithDetailsById(Long id);
+
+    @EntityGraph(attributePaths = "sender")
     List<Notification> findByReceiverIdAndNotiTypeAndNotiStatus(Long receiverId, NotiType notiType, NotiStatus notiStatus);
 
+    @EntityGraph(attributePaths = "receiver")
     List<Notification> findBySenderIdAndNotiTypeAndNotiStatus(Long senderId, NotiType notiType, NotiStatus notiStatus);
 }
@@ -104,7 +104,7 @@ public class NoticeServiceImpl implements NoticeService {
                 ));
 
         Comment comment = (noticeDto.getCommentId() != null)
-                ? commentRepository.findById(noticeDto.getCommentId())
+                ? commentRepository.findWithDetailsById(noticeDto.getCommentId())
                 .orElseThrow(() -> new CustomException(
                         "Comment Id " + noticeDto.getCommentId() + " not found",
                         ExceptionDomain.COMMENT,
@@ -150,7 +150,7 @@ public class NoticeServiceImpl implements NoticeService {
 
         if (emitter != null) {
             try {
-                Notification notification = notificationRepository.findById(noticeId)
+                Notification notification = notificationRepository.findWithDetailsById(noticeId)
                         .orElseThrow(() -> new CustomException(
                                 "Notification not found",
                                 ExceptionDomain.NOTIFICATION,
@@ -182,12 +182,9 @@ public class NoticeServiceImpl implements NoticeService {
         List<Notification> notifications = notificationRepository
                 .findByReceiverIdAndNotiTypeAndNotiStatus(userId, NotiType.FRIEND, NotiStatus.ACCEPTED);
 
-        // 그러면 Sender의 정보를 전달해야함
+        // 그러면 Sender의 정보를 전달해야함 (sender 는 알림 조회 시 함께 조회됨)
         List<UserResponse> userSenderResponses = notifications.stream()
-                .map(notification ->
-                        UserResponse.from(userRepository.findById(notification.getSender().getId())
-                                .orElseThrow(() -> new CustomException("No User has input userId", ExceptionDomain.NOTIFICATION, HttpStatus.NOT_FOUND)))
-                )
+                .map(notification -> UserResponse.from(notification.getSender()))
                 .toList();
 
         // 2. 친구 추가 요청을 받은사람이 상대(Receiver)일때, 즉 내(userId)가 친구 추가 요청을 보냈을때(Sender)
@@ -195,10 +192,7 @@ public class NoticeServiceImpl implements NoticeService {
 
         // 그러면 Receiver의 정보 전달
         List<UserResponse> userReceiverResponses = notifications.stream()
-                .map(notification ->
-                        UserResponse.from(userRepository.findById(notification.getReceiver().getId())
-                                .orElseThrow(() -> new CustomException("No User has input userId", ExceptionDomain.NOTIFICATION, HttpStatus.NOT_FOUND)))
-                )
+                .map(notification -> UserResponse.from(notification.getReceiver()))
                 .toList();
 
         List<UserResponse> friends = new ArrayList<>(userSenderResponses);
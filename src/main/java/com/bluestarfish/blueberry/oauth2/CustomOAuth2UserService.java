@@ -1,9 +1,7 @@
 package com.bluestarfish.blueberry.oauth2;
 
-import com.bluestarfish.blueberry.auth.entity.RefreshToken;
-import com.bluestarfish.blueberry.auth.repository.RefreshTokenRepository;
+import com.bluestarfish.blueberry.auth.token.RefreshTokenManager;
 import com.bluestarfish.blueberry.jwt.JWTTokens;
-import com.bluestarfish.blueberry.jwt.JWTUtils;
 import com.bluestarfish.blueberry.user.entity.User;
 import com.bluestarfish.blueberry.user.enumeration.AuthType;
 import com.bluestarfish.blueberry.user.repository.UserRepository;
@@ -22,9 +20,8 @@ import java.util.Optional;
 @Transactional
 public class CustomOAuth2UserService extends DefaultOAuth2UserService {
 
-    private final JWTUtils jwtUtils;
     private final UserRepository userRepository;
-    private final RefreshTokenRepository refreshTokenRepository;
+    private final RefreshTokenManager refreshTokenManager;
 
     @Override
     public OAuth2User loadUser(OAuth2UserRequest oAuth2UserRequest) throws OAuth2AuthenticationException {
@@ -57,14 +54,7 @@ public class CustomOAuth2UserService extends DefaultOAuth2UserService {
             );
         }
 
-        JWTTokens token = jwtUtils.createJwt(user.getId());
-
-        refreshTokenRepository.save(
-                RefreshToken.builder()
-                        .user(user)
-                        .token(token.refreshToken())
-                        .build()
-        );
+        JWTTokens token = refreshTokenManager.issue(user.getId());
 
         return new CustomOAuth2User(OAuth2UserDTO.from(user), token.accessToken());
     }
@@ -3,13 +3,13 @@ package com.bluestarfish.blueberry.post.controller;
 import static com.bluestarfish.blueberry.common.handler.ResponseHandler.handleSuccessResponse;
 
 import com.bluestarfish.blueberry.common.dto.ApiSuccessResponse;
+import com.bluestarfish.blueberry.jwt.CurrentUserId;
 import com.bluestarfish.blueberry.post.dto.PostRequest;
 import com.bluestarfish.blueberry.post.enumeration.PostType;
 import com.bluestarfish.blueberry.post.service.PostService;
 import jakarta.validation.Valid;
 import lombok.RequiredArgsConstructor;
 import org.springframework.http.HttpStatus;
-import org.springframework.web.bind.annotation.CookieValue;
 import org.springframework.web.bind.annotation.DeleteMapping;
 import org.springframework.web.bind.annotation.GetMapping;
 import org.springframework.web.bind.annotation.PatchMapping;
@@ -30,9 +30,9 @@ public class PostController {
     @PostMapping
     public ApiSuccessResponse<?> registerPost(
             @Valid @RequestBody PostRequest postRequest,
-            @CookieValue(name = "Authorization") String accessToken
+            @CurrentUserId Long loginId
     ) {
-        postService.createPost(postRequest, accessToken);
+        postService.createPost(postRequest, loginId);
         return handleSuccessResponse(HttpStatus.CREATED);
     }
 
@@ -52,22 +52,30 @@ public class PostController {
         return handleSuccessResponse(postService.getAllPosts(page, postType, isRecruited), HttpStatus.OK);
     }
 
+    @GetMapping("/search")
+    public ApiSuccessResponse<?> searchPosts(
+            @RequestParam(name = "page", defaultValue = "0") int page,
+            @RequestParam(name = "keyword") String keyword
+    ) {
+        return handleSuccessResponse(postService.searchPosts(page, keyword), HttpStatus.OK);
+    }
+
     @PatchMapping("/{postId}")
     public ApiSuccessResponse<?> updatePost(
             @PathVariable("postId") Long id,
             @RequestBody PostRequest postRequest,
-            @CookieValue(name = "Authorization") String accessToken
+            @CurrentUserId Long loginId
     ) {
-        postService.updatePostById(id, postRequest, accessToken);
+        postService.updatePostById(id, postRequest, loginId);
         return handleSuccessResponse(HttpStatus.OK);
     }
 
     @DeleteMapping("/{postId}")
     public ApiSuccessResponse<?> deletePost(
             @PathVariable("postId") Long id,
-            @CookieValue(name = "Authorization") String accessToken
+            @CurrentUserId Long loginId
     ) {
-        postService.deletePostById(id, accessToken);
+        postService.deletePostById(id, loginId);
         return handleSuccessResponse(HttpStatus.NO_CONTENT);
     }
 }
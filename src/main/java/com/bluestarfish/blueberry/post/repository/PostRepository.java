@@ -2,17 +2,28 @@ package com.bluestarfish.blueberry.post.repository;
 
 import com.bluestarfish.blueberry.post.entity.Post;
 import com.bluestarfish.blueberry.post.enumeration.PostType;
+import java.util.Collection;
+import java.util.List;
 import java.util.Optional;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.jpa.repository.EntityGraph;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.stereotype.Repository;
 
 @Repository
 public interface PostRepository extends JpaRepository<Post, Long> {
+    @EntityGraph(attributePaths = {"user", "room"})
     Optional<Post> findByIdAndDeletedAtIsNull(Long postId);
+    @EntityGraph(attributePaths = {"user", "room"})
     Page<Post> findByIsRecruitedTrueAndDeletedAtIsNull(Pageable pageable);
+    @EntityGraph(attributePaths = {"user", "room"})
     Page<Post> findByDeletedAtIsNull(Pageable pageable);
+    @EntityGraph(attributePaths = {"user", "room"})
     Page<Post> findByPostTypeAndIsRecruitedTrueAndDeletedAtIsNull(PostType postType, Pageable pageable);
+    @EntityGraph(attributePaths = {"user", "room"})
     Page<Post> findByPostTypeAndDeletedAtIsNull(PostType postType, Pageable pageable);
+
+    @EntityGraph(attributePaths = {"user", "room"})
+    List<Post> findByIdIn(Collection<Long> ids);
 }
@@ -7,9 +7,10 @@ import com.bluestarfish.blueberry.post.enumeration.PostType;
 import org.springframework.data.domain.Page;
 
 public interface PostService {
-    void createPost(PostRequest postRequest, String accessToken);
+    void createPost(PostRequest postRequest, Long loginId);
     PostResponse getPostById(Long id);
     Page<PostResponse> getAllPosts(int page, PostType postType, boolean isRecruited);
-    void updatePostById(Long id, PostRequest postRequest, String accessToken);
-    void deletePostById(Long id, String accessToken);
+    Page<PostResponse> searchPosts(int page, String keyword);
+    void updatePostById(Long id, PostRequest postRequest, Long loginId);
+    void deletePostById(Long id, Long loginId);
 }
@@ -1,21 +1,23 @@
 package com.bluestarfish.blueberry.post.service;
 
+import com.bluestarfish.blueberry.common.search.FullTextSearchEngine;
 import com.bluestarfish.blueberry.exception.CustomException;
 import com.bluestarfish.blueberry.exception.ExceptionDomain;
-import com.bluestarfish.blueberry.jwt.JWTUtils;
 import com.bluestarfish.blueberry.post.dto.PostRequest;
 import com.bluestarfish.blueberry.post.dto.PostResponse;
 import com.bluestarfish.blueberry.post.entity.Post;
 import com.bluestarfish.blueberry.post.enumeration.PostType;
 import com.bluestarfish.blueberry.post.repository.PostRepository;
 import com.bluestarfish.blueberry.room.entity.Room;
+import com.bluestarfish.blueberry.room.occupancy.RoomOccupancyRegistry;
 import com.bluestarfish.blueberry.room.repository.RoomRepository;
-import com.bluestarfish.blueberry.room.service.RoomService;
 import com.bluestarfish.blueberry.user.entity.User;
 import com.bluestarfish.blueberry.user.repository.UserRepository;
-import java.net.URLDecoder;
-import java.nio.charset.StandardCharsets;
 import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Map;
+import java.util.function.Function;
+import java.util.stream.Collectors;
 import lombok.RequiredArgsConstructor;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.PageRequest;
@@ -34,15 +36,14 @@ public class PostServiceImpl implements PostService {
     private final PostRepository postRepository;
     private final UserRepository userRepository;
     private final RoomRepository roomRepository;
-    private final RoomService roomService;
-    private final JWTUtils jwtUtils;
+    private final RoomOccupancyRegistry roomOccupancyRegistry;
+    private final FullTextSearchEngine fullTextSearchEngine;
 
     @Override
-    public void createPost(PostRequest postRequest, String accessToken) {
+    public void createPost(PostRequest postRequest, Long loginId) {
         User user = userRepository.findByIdAndDeletedAtIsNull(postRequest.getUserId())
                 .orElseThrow(() -> new CustomException("User not fount with id: " + postRequest.getUserId(), ExceptionDomain.POST, HttpStatus.NOT_FOUND));
-        Long tokenId = jwtUtils.getId(URLDecoder.decode(accessToken, StandardCharsets.UTF_8));
-        if(!tokenId.equals(user.getId())) {
+        if(!loginId.equals(user.getId())) {
             throw new CustomException("Not match request ID and login ID", ExceptionDomain.POST, HttpStatus.UNAUTHORIZED);
         }
 
@@ -63,7 +64,7 @@ public class PostServiceImpl implements PostService {
         Post post = postRepository.findByIdAndDeletedAtIsNull(id)
                 .orElseThrow(() -> new CustomException("Post not found with id: " + id, ExceptionDomain.POST, HttpStatus.NOT_FOUND));
         if(post.getRoom() != null) {
-            return PostResponse.from(post, roomService.getActiveMemberCount(post.getRoom().getId()));
+            return PostResponse.from(post, roomOccupancyRegistry.getCount(post.getRoom().getId()));
         }
         return PostResponse.from(post);
     }
@@ -80,7 +81,7 @@ public class PostServiceImpl implements PostService {
             if(isRecruited) {
                 return postRepository.findByIsRecruitedTrueAndDeletedAtIsNull(pageable).map(post -> {
                     if(post.getRoom() != null) {
-                        return PostResponse.from(post, roomService.getActiveMemberCount(post.getRoom().getId()));
+                        return PostResponse.from(post, roomOccupancyRegistry.getCount(post.getRoom().getId()));
                     } else {
                         return PostResponse.from(post);
                     }
@@ -88,7 +89,7 @@ public class PostServiceImpl implements PostService {
             } else {
                 return postRepository.findByDeletedAtIsNull(pageable).map(post -> {
                     if(post.getRoom() != null) {
-                        return PostResponse.from(post, roomService.getActiveMemberCount(post.getRoom().getId()));
+                        return PostResponse.from(post, roomOccupancyRegistry.getCount(post.getRoom().getId()));
                     } else {
                         return PostResponse.from(post);
                     }
@@ -98,7 +99,7 @@ public class PostServiceImpl implements PostService {
             if(isRecruited) {
                 return postRepository.findByPostTypeAndIsRecruitedTrueAndDeletedAtIsNull(postType, pageable).map(post -> {
                     if(post.getRoom() != null) {
-                        return PostResponse.from(post, roomService.getActiveMemberCount(post.getRoom().getId()));
+                        return PostResponse.from(post, roomOccupancyRegistry.getCount(post.getRoom().getId()));
                     } else {
                         return PostResponse.from(post);
                     }
@@ -106,7 +107,7 @@ public class PostServiceImpl implements PostService {
             } else {
                 return postRepository.findByPostTypeAndDeletedAtIsNull(postType, pageable).map(post -> {
                     if(post.getRoom() != null) {
-                        return PostResponse.from(post, roomService.getActiveMemberCount(post.getRoom().getId()));
+                        return PostResponse.from(post, roomOccupancyRegistry.getCount(post.getRoom().getId()));
                     } else {
                         return PostResponse.from(post);
                     }
@@ -116,10 +117,24 @@ public class PostServiceImpl implements PostService {
     }
 
     @Override
-    public void updatePostById(Long id, PostRequest postRequest, String accessToken) {
-        Long tokenId = jwtUtils.getId(URLDecoder.decode(accessToken, StandardCharsets.UTF_8));
+    public Page<PostResponse> searchPosts(int page, String keyword) {
+        Page<Long> postIds = fullTextSearchEngine.searchPostIds(keyword, PageRequest.of(page, 10));
 
-        if(!tokenId.equals(postRequest.getUserId())) {
+        // 관련도 순서를 유지하기 위해 id 순서대로 다시 정렬
+        Map<Long, Post> posts = postRepository.findByIdIn(postIds.getContent()).stream()
+                .collect(Collectors.toMap(Post::getId, Function.identity()));
+
+        return postIds.map(posts::get).map(post -> {
+            if(post.getRoom() != null) {
+                return PostResponse.from(post, roomOccupancyRegistry.getCount(post.getRoom().getId()));
+            }
+            return PostResponse.from(post);
+        });
+    }
+
+    @Override
+    public void updatePostById(Long id, PostRequest postRequest, Long loginId) {
+        if(!loginId.equals(postRequest.getUserId())) {
             throw new CustomException("Not match request ID and login ID", ExceptionDomain.POST, HttpStatus.UNAUTHORIZED);
         }
 
@@ -138,12 +153,11 @@ public class PostServiceImpl implements PostService {
     }
 
     @Override
-    public void deletePostById(Long id, String accessToken) {
-        Long tokenId = jwtUtils.getId(URLDecoder.decode(accessToken, StandardCharsets.UTF_8));
+    public void deletePostById(Long id, Long loginId) {
         Post post = postRepository.findByIdAndDeletedAtIsNull(id)
                 .orElseThrow(() -> new CustomException("Post not found with id: " + id, ExceptionDomain.POST, HttpStatus.NOT_FOUND));
 
-        if(!tokenId.equals(post.getUser().getId())) {
+        if(!loginId.equals(post.getUser().getId())) {
             throw new CustomException("Not match request ID and login ID", ExceptionDomain.POST, HttpStatus.UNAUTHORIZED);
         }
         post.setDeletedAt(LocalDateTime.now());
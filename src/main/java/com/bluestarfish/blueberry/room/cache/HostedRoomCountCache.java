@@ -0,0 +1,37 @@
+package com.bluestarfish.blueberry.room.cache;
+
+import com.bluestarfish.blueberry.common.cache.CacheEvictions;
+import com.bluestarfish.blueberry.room.repository.RoomRepository;
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+
+// 유저별 개설한 스터디룸 개수 캐시 (방 생성 제한 확인용)
+@Component
+public class HostedRoomCountCache {
+    private final RoomRepository roomRepository;
+    private final Cache<Long, Integer> counts;
+
+    public HostedRoomCountCache(
+            RoomRepository roomRepository,
+            @Value("${room.cache.hosted-count.max-size:10000}") long maxSize,
+            @Value("${room.cache.hosted-count.ttl:10m}") Duration ttl
+    ) {
+        this.roomRepository = roomRepository;
+        this.counts = Caffeine.newBuilder()
+                .maximumSize(maxSize)
+                .expireAfterWrite(ttl)
+                .build();
+    }
+
+    public int get(Long userId) {
+        return counts.get(userId, id -> (int) roomRepository.countHostedRooms(id));
+    }
+
+    public void evict(Long userId) {
+        CacheEvictions.afterCommit(() -> counts.invalidate(userId));
+    }
+}
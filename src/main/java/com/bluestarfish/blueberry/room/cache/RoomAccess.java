@@ -0,0 +1,36 @@
+package com.bluestarfish.blueberry.room.cache;
+
+import com.bluestarfish.blueberry.room.entity.Room;
+import lombok.Builder;
+import lombok.Getter;
+import org.springframework.security.crypto.password.PasswordEncoder;
+
+// 입장 검증에 필요한 최소 정보만 담은 스터디룸 접근 정보
+@Getter
+@Builder
+public class RoomAccess {
+    private final Long id;
+    private final String passwordHash;
+    private final int maxUsers;
+    private final boolean deleted;
+
+    public static RoomAccess from(Room room) {
+        return RoomAccess.builder()
+                .id(room.getId())
+                .passwordHash(room.getPassword())
+                .maxUsers(room.getMaxUsers())
+                .deleted(room.getDeletedAt() != null)
+                .build();
+    }
+
+    public boolean needPassword() {
+        return passwordHash != null && !passwordHash.isEmpty();
+    }
+
+    public boolean matches(String rawPassword, PasswordEncoder passwordEncoder) {
+        if (!needPassword()) {
+            return true;
+        }
+        return rawPassword != null && passwordEncoder.matches(rawPassword, passwordHash);
+    }
+}
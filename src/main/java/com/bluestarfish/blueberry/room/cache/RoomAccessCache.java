@@ -0,0 +1,44 @@
+package com.bluestarfish.blueberry.room.cache;
+
+import com.bluestarfish.blueberry.common.cache.CacheEvictions;
+import com.bluestarfish.blueberry.room.repository.RoomRepository;
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.util.Optional;
+
+// 입장/비밀번호 확인 시 DB 조회 없이 검증하기 위한 스터디룸 접근 정보 캐시 (삭제된 방도 캐싱)
+@Component
+public class RoomAccessCache {
+    private final RoomRepository roomRepository;
+    private final Cache<Long, RoomAccess> rooms;
+
+    public RoomAccessCache(
+            RoomRepository roomRepository,
+            @Value("${room.cache.access.max-size:10000}") long maxSize,
+            @Value("${room.cache.access.ttl:30m}") Duration ttl
+    ) {
+        this.roomRepository = roomRepository;
+        this.rooms = Caffeine.newBuilder()
+                .maximumSize(maxSize)
+                .expireAfterWrite(ttl)
+                .build();
+    }
+
+    public Optional<RoomAccess> get(Long roomId) {
+        return Optional.ofNullable(rooms.get(roomId, id -> roomRepository.findById(id)
+                .map(RoomAccess::from)
+                .orElse(null)));
+    }
+
+    public Optional<RoomAccess> getActive(Long roomId) {
+        return get(roomId).filter(access -> !access.isDeleted());
+    }
+
+    public void evict(Long roomId) {
+        CacheEvictions.afterCommit(() -> rooms.invalidate(roomId));
+    }
+}
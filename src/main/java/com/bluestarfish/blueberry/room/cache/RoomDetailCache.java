@@ -0,0 +1,61 @@
+package com.bluestarfish.blueberry.room.cache;
+
+import com.bluestarfish.blueberry.common.cache.CacheEvictions;
+import com.bluestarfish.blueberry.room.repository.RoomRepository;
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.github.benmanes.caffeine.cache.stats.CacheStats;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.util.Optional;
+
+// 스터디룸 기본 정보 read-through 캐시 (참여자 목록은 RoomOccupancyRegistry 에서 조합)
+@Slf4j
+@Component
+public class RoomDetailCache {
+    private final RoomRepository roomRepository;
+    private final Cache<Long, RoomMetadata> rooms;
+
+    public RoomDetailCache(
+            RoomRepository roomRepository,
+            @Value("${room.cache.detail.max-size:10000}") long maxSize,
+            @Value("${room.cache.detail.ttl:10m}") Duration ttl
+    ) {
+        this.roomRepository = roomRepository;
+        this.rooms = Caffeine.newBuilder()
+                .maximumSize(maxSize)
+                .expireAfterWrite(ttl)
+                .recordStats()
+                .build();
+    }
+
+    // 존재하지 않는(삭제된) 방은 캐싱하지 않음
+    public Optional<RoomMetadata> get(Long roomId) {
+        return Optional.ofNullable(rooms.get(roomId, id -> roomRepository.findByIdAndDeletedAtIsNull(id)
+                .map(RoomMetadata::from)
+                .orElse(null)));
+    }
+
+    public void evict(Long roomId) {
+        CacheEvictions.afterCommit(() -> rooms.invalidate(roomId));
+    }
+
+    public CacheStats getStats() {
+        return rooms.stats();
+    }
+
+    @Scheduled(
+            initialDelayString = "${room.cache.detail.stats-interval:300000}",
+            fixedDelayString = "${room.cache.detail.stats-interval:300000}"
+    )
+    public void logStats() {
+        CacheStats stats = rooms.stats();
+        log.info("스터디룸 상세 캐시: size={}, hit={}, miss={}, hitRate={}, eviction={}",
+                rooms.estimatedSize(), stats.hitCount(), stats.missCount(),
+                String.format("%.2f", stats.hitRate()), stats.evictionCount());
+    }
+}
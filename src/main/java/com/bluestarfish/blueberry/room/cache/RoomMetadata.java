@@ -0,0 +1,35 @@
+package com.bluestarfish.blueberry.room.cache;
+
+import com.bluestarfish.blueberry.room.entity.Room;
+import java.time.LocalDateTime;
+import lombok.Builder;
+import lombok.Getter;
+
+// 캐시에 보관하는 스터디룸 기본 정보 (엔티티를 캐시에 두지 않기 위한 불변 스냅샷)
+@Getter
+@Builder
+public class RoomMetadata {
+    private final Long id;
+    private final String title;
+    private final int maxUsers;
+    private final boolean isCamEnabled;
+    private final boolean needPassword;
+    private final String thumbnail;
+    private final String description;
+    private final LocalDateTime createdAt;
+    private final LocalDateTime deletedAt;
+
+    public static RoomMetadata from(Room room) {
+        return RoomMetadata.builder()
+                .id(room.getId())
+                .title(room.getTitle())
+                .maxUsers(room.getMaxUsers())
+                .isCamEnabled(room.isCamEnabled())
+                .needPassword(!room.getPassword().isEmpty())
+                .thumbnail(room.getThumbnail())
+                .description(room.getDescription())
+                .createdAt(room.getCreatedAt())
+                .deletedAt(room.getDeletedAt())
+                .build();
+    }
+}
@@ -2,6 +2,7 @@ package com.bluestarfish.blueberry.room.controller;
 
 import com.bluestarfish.blueberry.common.dto.ApiSuccessResponse;
 import com.bluestarfish.blueberry.common.dto.UserRoomRequest;
+import com.bluestarfish.blueberry.jwt.CurrentUserId;
 import com.bluestarfish.blueberry.room.dto.RoomPasswordRequest;
 import com.bluestarfish.blueberry.room.dto.RoomRequest;
 import com.bluestarfish.blueberry.room.service.RoomService;
@@ -21,9 +22,9 @@ public class RoomController {
     @PostMapping(consumes = "multipart/form-data")
     public ApiSuccessResponse<?> registerStudyRoom(
             @ModelAttribute RoomRequest roomRequest,
-            @CookieValue(name = "Authorization") String accessToken
+            @CurrentUserId Long loginId
     ) {
-        roomService.createRoom(roomRequest, accessToken);
+        roomService.createRoom(roomRequest, loginId);
         return handleSuccessResponse(HttpStatus.CREATED);
     }
 
@@ -43,6 +44,16 @@ public class RoomController {
         return handleSuccessResponse(roomService.getAllRooms(page, keyword, isCamEnabled), HttpStatus.OK);
     }
 
+    @GetMapping("/scroll")
+    public ApiSuccessResponse<?> getStudyRoomSlice(
+            @RequestParam(name = "cursor", required = false) Long cursor,
+            @RequestParam(name = "size", defaultValue = "10") int size,
+            @RequestParam(name = "keyword", required = false) String keyword,
+            @RequestParam(name = "isCamEnabled", required = false) Boolean isCamEnabled
+    ) {
+        return handleSuccessResponse(roomService.getRoomsByCursor(cursor, size, keyword, isCamEnabled), HttpStatus.OK);
+    }
+
     @GetMapping("/my/{userId}")
     public ApiSuccessResponse<?> getMyRoomList(
             @PathVariable("userId") Long userId
@@ -57,12 +68,20 @@ public class RoomController {
         return handleSuccessResponse(roomService.getVisitedRooms(userId), HttpStatus.OK);
     }
 
+    @GetMapping("/{roomId}/ranks")
+    public ApiSuccessResponse<?> getStudyRoomRanks(
+            @PathVariable("roomId") Long roomId,
+            @RequestParam(name = "size", defaultValue = "10") int size
+    ) {
+        return handleSuccessResponse(roomService.getRoomRanks(roomId, size), HttpStatus.OK);
+    }
+
     @DeleteMapping("/{roomId}")
     public ApiSuccessResponse<?> deleteStudyRoom(
             @PathVariable("roomId") Long id,
-            @CookieValue(name = "Authorization") String accessToken
+            @CurrentUserId Long loginId
     ) {
-        roomService.deleteRoomById(id, accessToken);
+        roomService.deleteRoomById(id, loginId);
         return handleSuccessResponse(HttpStatus.NO_CONTENT);
     }
 
@@ -1,7 +1,7 @@
 package com.bluestarfish.blueberry.room.dto;
 
 import com.bluestarfish.blueberry.common.dto.UserRoomResponse;
-import com.bluestarfish.blueberry.room.entity.Room;
+import com.bluestarfish.blueberry.room.cache.RoomMetadata;
 import com.fasterxml.jackson.annotation.JsonFormat;
 import java.time.LocalDateTime;
 import java.util.List;
@@ -26,13 +26,13 @@ public class RoomDetailResponse {
     @JsonFormat(shape = JsonFormat.Shape.STRING, pattern = "yyyy-MM-dd HH:mm:ss")
     private LocalDateTime deletedAt;
 
-    public static RoomDetailResponse from(Room room, List<UserRoomResponse> userRooms) {
+    public static RoomDetailResponse from(RoomMetadata room, List<UserRoomResponse> userRooms) {
         return RoomDetailResponse.builder()
                 .id(room.getId())
                 .title(room.getTitle())
                 .maxUsers(room.getMaxUsers())
                 .isCamEnabled(room.isCamEnabled())
-                .needPassword(!room.getPassword().isEmpty())
+                .needPassword(room.isNeedPassword())
                 .thumbnail(room.getThumbnail())
                 .description(room.getDescription())
                 .userRooms(userRooms)
@@ -29,12 +29,12 @@ public class RoomRequest {
     private MultipartFile thumbnail;
     private String description;
 
-    public Room toEntity(String thumbnailUrl) {
+    public Room toEntity(String thumbnailUrl, String passwordHash) {
         return Room.builder()
                 .title(title)
                 .maxUsers(maxUsers)
                 .isCamEnabled(isCamEnabled)
-                .password(password)
+                .password(passwordHash)
                 .thumbnail(thumbnailUrl)
                 .description(description)
                 .build();
@@ -0,0 +1,23 @@
+package com.bluestarfish.blueberry.room.dto;
+
+import java.util.List;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.Setter;
+
+@Getter
+@Setter
+@Builder
+public class RoomSliceResponse {
+    private List<RoomResponse> content;
+    private boolean hasNext;
+    private Long nextCursor;
+
+    public static RoomSliceResponse of(List<RoomResponse> content, boolean hasNext) {
+        return RoomSliceResponse.builder()
+                .content(content)
+                .hasNext(hasNext)
+                .nextCursor(content.isEmpty() ? null : content.get(content.size() - 1).getId())
+                .build();
+    }
+}
@@ -1,5 +1,6 @@
 package com.bluestarfish.blueberry.room.entity;
 
+import com.fasterxml.jackson.annotation.JsonIgnoreProperties;
 import jakarta.persistence.*;
 import lombok.Builder;
 import lombok.Getter;
@@ -12,8 +13,12 @@ import java.time.LocalDateTime;
 @Getter
 @Setter
 @Entity
+@JsonIgnoreProperties({"hibernateLazyInitializer", "handler"})
 @NoArgsConstructor
-@Table(name = "rooms")
+@Table(
+        name = "rooms",
+        indexes = @Index(name = "idx_rooms_deleted_cam_created", columnList = "deleted_at, cam_enabled, created_at")
+)
 public class Room {
     @Id
     @GeneratedValue(strategy = GenerationType.IDENTITY)
@@ -0,0 +1,87 @@
+package com.bluestarfish.blueberry.room.leaderboard;
+
+import com.bluestarfish.blueberry.user.rank.LiveRank;
+
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.NavigableSet;
+import java.util.TreeSet;
+
+// 한 방의 오늘 멤버별 공부시간, 정렬 집합으로 상위 K명을 O(K) 에 응답
+// 날짜가 바뀌면 처음 접근할 때 비움
+class RoomLeaderboard {
+    private static final Comparator<LiveRank> ORDER = Comparator.comparingInt(LiveRank::getSeconds).reversed()
+            .thenComparingLong(LiveRank::getUserId);
+
+    private final Map<Long, LiveRank> entries = new HashMap<>();
+    private final NavigableSet<LiveRank> ordered = new TreeSet<>(ORDER);
+    private LocalDate date;
+
+    RoomLeaderboard(LocalDate date) {
+        this.date = date;
+    }
+
+    // 증가분을 더하고 누적값을 반환
+    synchronized int add(LocalDate today, long userId, int deltaSeconds) {
+        resetIfStale(today);
+
+        LiveRank previous = entries.get(userId);
+        int seconds = (previous != null ? previous.getSeconds() : 0) + deltaSeconds;
+        put(userId, seconds);
+        return seconds;
+    }
+
+    synchronized void load(LocalDate today, long userId, int seconds) {
+        resetIfStale(today);
+        put(userId, seconds);
+    }
+
+    synchronized List<LiveRank> getTop(LocalDate today, int limit) {
+        List<LiveRank> top = new ArrayList<>(Math.min(limit, entries.size()));
+        if (!date.equals(today)) {
+            return top;
+        }
+
+        LiveRank previous = null;
+        for (LiveRank entry : ordered) {
+            if (top.size() == limit) {
+                break;
+            }
+
+            // 동점자는 앞 사람과 같은 순위
+            int rank = previous != null && previous.getSeconds() == entry.getSeconds()
+                    ? previous.getRank()
+                    : top.size() + 1;
+            previous = new LiveRank(rank, entry.getUserId(), entry.getSeconds());
+            top.add(previous);
+        }
+        return top;
+    }
+
+    synchronized boolean isBefore(LocalDate today) {
+        return date.isBefore(today);
+    }
+
+    private void put(long userId, int seconds) {
+        LiveRank previous = entries.get(userId);
+        if (previous != null) {
+            ordered.remove(previous);
+        }
+
+        LiveRank entry = new LiveRank(0, userId, seconds);
+        entries.put(userId, entry);
+        ordered.add(entry);
+    }
+
+    private void resetIfStale(LocalDate today) {
+        if (!date.equals(today)) {
+            entries.clear();
+            ordered.clear();
+            date = today;
+        }
+    }
+}
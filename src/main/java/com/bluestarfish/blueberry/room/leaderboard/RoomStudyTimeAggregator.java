@@ -0,0 +1,164 @@
+package com.bluestarfish.blueberry.room.leaderboard;
+
+import com.bluestarfish.blueberry.common.dto.UserRoomResponse;
+import com.bluestarfish.blueberry.room.repository.RoomMemberSeconds;
+import com.bluestarfish.blueberry.room.repository.RoomStudyTimeRepository;
+import com.bluestarfish.blueberry.user.rank.LiveRank;
+import jakarta.annotation.PreDestroy;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.dao.DataAccessException;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+
+// 방별 오늘 멤버 공부시간 집계
+// 공부시간 heartbeat 마다 유저가 있는 방에 직전 heartbeat 대비 증가분을 더하고, 바뀐 값만 주기적으로 users_rooms 에 반영
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class RoomStudyTimeAggregator {
+    private final RoomStudyTimeRepository roomStudyTimeRepository;
+
+    private final ConcurrentMap<Long, RoomLeaderboard> boards = new ConcurrentHashMap<>();
+    private final ConcurrentMap<Long, Presence> presences = new ConcurrentHashMap<>();
+    private final ConcurrentMap<Key, Integer> dirty = new ConcurrentHashMap<>();
+    private final Object flushLock = new Object();
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void load() {
+        LocalDate today = LocalDate.now();
+        List<RoomMemberSeconds> rows = roomStudyTimeRepository.findDaySeconds(today);
+        for (RoomMemberSeconds row : rows) {
+            boards.computeIfAbsent(row.getRoomId(), roomId -> new RoomLeaderboard(today))
+                    .load(today, row.getUserId(), row.getSeconds());
+        }
+        log.info("방별 공부시간 집계 적재 완료: {}건", rows.size());
+    }
+
+    public void enter(Long roomId, Long userId) {
+        presences.put(userId, Presence.entered(roomId));
+    }
+
+    public void leave(Long roomId, Long userId) {
+        presences.computeIfPresent(userId, (id, presence) -> presence.roomId().equals(roomId) ? null : presence);
+    }
+
+    public void removeRoom(Long roomId) {
+        presences.values().removeIf(presence -> presence.roomId().equals(roomId));
+        boards.remove(roomId);
+    }
+
+    // 입퇴장 이벤트 유실에 대비해 DB 의 활성 참여자 기준으로 방 위치를 보정
+    public void syncPresences(Map<Long, List<UserRoomResponse>> activeMembers) {
+        Map<Long, Set<Long>> activeRooms = new HashMap<>();
+        activeMembers.forEach((roomId, participants) -> {
+            for (UserRoomResponse participant : participants) {
+                activeRooms.computeIfAbsent(participant.getUserId(), userId -> new HashSet<>()).add(roomId);
+                presences.putIfAbsent(participant.getUserId(), Presence.entered(roomId));
+            }
+        });
+        presences.entrySet().removeIf(entry -> !activeRooms.getOrDefault(entry.getKey(), Set.of()).contains(entry.getValue().roomId()));
+    }
+
+    // heartbeat 의 오늘 누적 공부시간, 방에 없으면 무시
+    public void record(Long userId, int seconds) {
+        Presence presence = presences.get(userId);
+        if (presence == null) {
+            return;
+        }
+
+        LocalDate today = LocalDate.now();
+        long now = System.currentTimeMillis();
+        // 같은 유저의 heartbeat 가 동시에 오면 기준값을 먼저 바꾼 쪽만 반영
+        if (!presences.replace(userId, presence, new Presence(presence.roomId(), today, seconds, now))) {
+            return;
+        }
+
+        int deltaSeconds = presence.deltaTo(today, seconds, now);
+        if (deltaSeconds <= 0) {
+            return;
+        }
+
+        int[] total = new int[1];
+        boards.compute(presence.roomId(), (roomId, board) -> {
+            RoomLeaderboard target = (board != null) ? board : new RoomLeaderboard(today);
+            total[0] = target.add(today, userId, deltaSeconds);
+            return target;
+        });
+        dirty.put(new Key(presence.roomId(), userId, today), total[0]);
+    }
+
+    public List<LiveRank> getTop(Long roomId, int limit) {
+        RoomLeaderboard board = boards.get(roomId);
+        return (board != null) ? board.getTop(LocalDate.now(), limit) : List.of();
+    }
+
+    @Scheduled(
+            initialDelayString = "${room.leaderboard.flush-interval:10000}",
+            fixedDelayString = "${room.leaderboard.flush-interval:10000}"
+    )
+    public void flush() {
+        synchronized (flushLock) {
+            if (!dirty.isEmpty()) {
+                save(new HashMap<>(dirty));
+            }
+
+            // 날짜가 지난 뒤 갱신이 없는 방은 비움
+            LocalDate today = LocalDate.now();
+            for (Long roomId : boards.keySet()) {
+                boards.computeIfPresent(roomId, (id, board) -> board.isBefore(today) ? null : board);
+            }
+        }
+    }
+
+    @PreDestroy
+    public void flushOnShutdown() {
+        flush();
+        log.info("방별 공부시간 집계 종료 전 반영 완료: 미반영 {}건", dirty.size());
+    }
+
+    private void save(Map<Key, Integer> flushing) {
+        List<RoomMemberSeconds> changes = new ArrayList<>(flushing.size());
+        flushing.forEach((key, seconds) -> changes.add(new RoomMemberSeconds(key.roomId(), key.userId(), key.date(), seconds)));
+
+        try {
+            roomStudyTimeRepository.saveDaySeconds(changes);
+            // 반영 중 값이 바뀐 항목은 remove(key, value) 가 실패해 다음 flush 에서 반영
+            flushing.forEach(dirty::remove);
+        } catch (DataAccessException e) {
+            log.error("방별 공부시간 반영 실패, 다음 주기에 재시도: {}건", changes.size(), e);
+        }
+    }
+
+    private record Key(Long roomId, Long userId, LocalDate date) {
+    }
+
+    // 유저가 지금 있는 방과 그 방에서 받은 마지막 heartbeat
+    private record Presence(Long roomId, LocalDate date, int lastSeconds, long lastAtMillis) {
+        static Presence entered(Long roomId) {
+            return new Presence(roomId, LocalDate.now(), -1, 0L);
+        }
+
+        // 입장 후 첫 heartbeat 는 기준값으로만 쓰고, 방에 있던 시간보다 많이 늘어난 값은 그 시간까지만 인정
+        int deltaTo(LocalDate today, int seconds, long nowMillis) {
+            if (lastSeconds < 0 || !date.equals(today)) {
+                return 0;
+            }
+
+            long elapsedSeconds = (nowMillis - lastAtMillis) / 1000 + 1;
+            return (int) Math.min(seconds - lastSeconds, elapsedSeconds);
+        }
+    }
+}
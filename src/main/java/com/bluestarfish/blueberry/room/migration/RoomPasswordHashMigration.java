@@ -0,0 +1,44 @@
+package com.bluestarfish.blueberry.room.migration;
+
+import jakarta.annotation.PostConstruct;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.context.annotation.DependsOn;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.security.crypto.password.PasswordEncoder;
+import org.springframework.stereotype.Component;
+
+import java.util.List;
+import java.util.Map;
+
+// 평문으로 저장된 기존 스터디룸 비밀번호를 BCrypt 해시로 변환 (요청을 받기 전에 실행)
+@Slf4j
+@Component
+@DependsOn("entityManagerFactory")
+@RequiredArgsConstructor
+public class RoomPasswordHashMigration {
+    private static final String SELECT_PLAIN_PASSWORDS_SQL = "SELECT id, password FROM rooms "
+            + "WHERE password IS NOT NULL AND password <> '' AND password NOT LIKE '$2_$%'";
+    private static final String UPDATE_PASSWORD_SQL = "UPDATE rooms SET password = ? WHERE id = ? AND password = ?";
+
+    private final JdbcTemplate jdbcTemplate;
+    private final PasswordEncoder passwordEncoder;
+
+    @PostConstruct
+    public void migrate() {
+        List<Map<String, Object>> rows = jdbcTemplate.queryForList(SELECT_PLAIN_PASSWORDS_SQL);
+        if (rows.isEmpty()) {
+            return;
+        }
+
+        List<Object[]> updates = rows.stream()
+                .map(row -> {
+                    String password = (String) row.get("password");
+                    return new Object[]{passwordEncoder.encode(password), row.get("id"), password};
+                })
+                .toList();
+
+        jdbcTemplate.batchUpdate(UPDATE_PASSWORD_SQL, updates);
+        log.info("스터디룸 비밀번호 해시 변환 완료: {}건", updates.size());
+    }
+}
@@ -0,0 +1,108 @@
+package com.bluestarfish.blueberry.room.occupancy;
+
+import com.bluestarfish.blueberry.common.dto.UserRoomResponse;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+
+// 자리 예약(seats)과 방 상세에 보여줄 참여자 정보(participants)를 분리
+// 자리는 입장 전에 예약하고, 참여자 정보는 입장이 끝난 뒤(join)에만 공개
+public class RoomOccupancy {
+    private final Map<Long, Seat> seats = new HashMap<>();
+    private final ConcurrentMap<Long, UserRoomResponse> participants = new ConcurrentHashMap<>();
+    private volatile int count;
+
+    // 정원(maxUsers, 0 이하면 무제한)을 넘지 않을 때만 자리를 예약, 이미 자리가 있는 유저는 그대로 허용
+    public synchronized boolean tryAdmit(Long userId, int maxUsers) {
+        Seat seat = seats.get(userId);
+        if (seat != null) {
+            seats.put(userId, seat.touch());
+            return true;
+        }
+
+        if (maxUsers > 0 && seats.size() >= maxUsers) {
+            return false;
+        }
+
+        seats.put(userId, Seat.reserved());
+        count = seats.size();
+        return true;
+    }
+
+    // 같은 유저의 중복 입장(REST 입장 + WebRTC 입장)은 한 번만 세고, 참여자 정보만 최신으로 교체
+    // session 이면 users_rooms 행 없이 WebRTC 세션으로만 들어온 자리라 DB 보정에서 지우지 않음
+    public synchronized boolean join(UserRoomResponse participant, boolean session) {
+        Seat seat = seats.get(participant.getUserId());
+        seats.put(participant.getUserId(), seat != null ? seat.join(session) : Seat.joined(session));
+        participants.put(participant.getUserId(), participant);
+        count = seats.size();
+        return seat == null;
+    }
+
+    public synchronized boolean leave(Long userId) {
+        participants.remove(userId);
+        if (seats.remove(userId) != null) {
+            count = seats.size();
+            return true;
+        }
+        return false;
+    }
+
+    // DB 기준 활성 참여자로 보정, 스냅샷 조회 직전(staleBefore) 이후에 예약/입장한 자리는 아직 커밋 전일 수 있으므로 유지
+    public synchronized void reconcile(Collection<UserRoomResponse> activeParticipants, long staleBefore) {
+        Set<Long> activeUserIds = new HashSet<>();
+        for (UserRoomResponse participant : activeParticipants) {
+            activeUserIds.add(participant.getUserId());
+            if (!seats.containsKey(participant.getUserId())) {
+                seats.put(participant.getUserId(), Seat.joined(false));
+            }
+            participants.putIfAbsent(participant.getUserId(), participant);
+        }
+
+        seats.entrySet().removeIf(entry -> {
+            boolean stale = !activeUserIds.contains(entry.getKey()) && entry.getValue().isStale(staleBefore);
+            if (stale) {
+                participants.remove(entry.getKey());
+            }
+            return stale;
+        });
+        count = seats.size();
+    }
+
+    public int getCount() {
+        return count;
+    }
+
+    public List<UserRoomResponse> getParticipants() {
+        return new ArrayList<>(participants.values());
+    }
+
+    private record Seat(long touchedAt, boolean session) {
+        static Seat reserved() {
+            return new Seat(System.nanoTime(), false);
+        }
+
+        static Seat joined(boolean session) {
+            return new Seat(System.nanoTime(), session);
+        }
+
+        Seat touch() {
+            return new Seat(System.nanoTime(), session);
+        }
+
+        Seat join(boolean joinedBySession) {
+            return new Seat(System.nanoTime(), session || joinedBySession);
+        }
+
+        boolean isStale(long staleBefore) {
+            return !session && touchedAt - staleBefore < 0;
+        }
+    }
+}
@@ -0,0 +1,47 @@
+package com.bluestarfish.blueberry.room.occupancy;
+
+import com.bluestarfish.blueberry.common.dto.UserRoomResponse;
+import com.bluestarfish.blueberry.common.repository.UserRoomRepository;
+import com.bluestarfish.blueberry.room.leaderboard.RoomStudyTimeAggregator;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.Map;
+
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class RoomOccupancyReconciler {
+    private final UserRoomRepository userRoomRepository;
+    private final RoomOccupancyRegistry roomOccupancyRegistry;
+    private final RoomStudyTimeAggregator roomStudyTimeAggregator;
+
+    // 입장 요청이 자리를 예약한 뒤 users_rooms 반영이 커밋되기까지 기다려 주는 시간
+    @Value("${room.occupancy.reconcile-grace:10s}")
+    private Duration reconcileGrace;
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void rebuild() {
+        reconcile();
+    }
+
+    // 입퇴장 이벤트 유실(비정상 종료, 예외 등)로 어긋난 인원수를 DB 기준으로 주기적으로 보정
+    @Scheduled(
+            initialDelayString = "${room.occupancy.reconcile-interval:60000}",
+            fixedDelayString = "${room.occupancy.reconcile-interval:60000}"
+    )
+    public void reconcile() {
+        long staleBefore = System.nanoTime() - reconcileGrace.toNanos();
+        Map<Long, List<UserRoomResponse>> activeMembers = userRoomRepository.findActiveParticipantsGroupByRoomId();
+        roomOccupancyRegistry.reconcile(activeMembers, staleBefore);
+        roomStudyTimeAggregator.syncPresences(activeMembers);
+        log.debug("스터디룸 인원 정보 동기화 완료: {}개 방", activeMembers.size());
+    }
+}
@@ -0,0 +1,68 @@
+package com.bluestarfish.blueberry.room.occupancy;
+
+import com.bluestarfish.blueberry.common.dto.UserRoomResponse;
+import org.springframework.stereotype.Component;
+
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+
+@Component
+public class RoomOccupancyRegistry {
+    private final ConcurrentMap<Long, RoomOccupancy> rooms = new ConcurrentHashMap<>();
+
+    public boolean tryAdmit(Long roomId, Long userId, int maxUsers) {
+        return rooms.computeIfAbsent(roomId, id -> new RoomOccupancy()).tryAdmit(userId, maxUsers);
+    }
+
+    public boolean join(Long roomId, UserRoomResponse participant) {
+        return rooms.computeIfAbsent(roomId, id -> new RoomOccupancy()).join(participant, false);
+    }
+
+    // WebRTC 세션으로 들어온 참여자, 세션이 끝날 때 leave 로만 빠짐
+    public boolean joinSession(Long roomId, UserRoomResponse participant) {
+        return rooms.computeIfAbsent(roomId, id -> new RoomOccupancy()).join(participant, true);
+    }
+
+    public boolean leave(Long roomId, Long userId) {
+        RoomOccupancy occupancy = rooms.get(roomId);
+        return occupancy != null && occupancy.leave(userId);
+    }
+
+    public int getCount(Long roomId) {
+        RoomOccupancy occupancy = rooms.get(roomId);
+        return (occupancy != null) ? occupancy.getCount() : 0;
+    }
+
+    public Map<Long, Integer> getCounts(Collection<Long> roomIds) {
+        Map<Long, Integer> counts = new HashMap<>();
+        for (Long roomId : roomIds) {
+            counts.put(roomId, getCount(roomId));
+        }
+        return counts;
+    }
+
+    public List<UserRoomResponse> getParticipants(Long roomId) {
+        RoomOccupancy occupancy = rooms.get(roomId);
+        return (occupancy != null) ? occupancy.getParticipants() : List.of();
+    }
+
+    public void removeRoom(Long roomId) {
+        rooms.remove(roomId);
+    }
+
+    // DB 기준 스냅샷으로 방별 인원 정보를 보정, 객체를 교체하지 않고 방마다 입장과 같은 잠금 안에서 반영
+    // staleBefore(System.nanoTime 기준) 이후에 예약/입장한 자리는 스냅샷에 없어도 유지
+    public void reconcile(Map<Long, List<UserRoomResponse>> activeMembers, long staleBefore) {
+        activeMembers.forEach((roomId, participants) ->
+                rooms.computeIfAbsent(roomId, id -> new RoomOccupancy()).reconcile(participants, staleBefore));
+        rooms.forEach((roomId, occupancy) -> {
+            if (!activeMembers.containsKey(roomId)) {
+                occupancy.reconcile(List.of(), staleBefore);
+            }
+        });
+    }
+}
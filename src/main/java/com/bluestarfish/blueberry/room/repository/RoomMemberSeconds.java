@@ -0,0 +1,16 @@
+package com.bluestarfish.blueberry.room.repository;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+import java.time.LocalDate;
+
+// 방 멤버 한 명의 하루 공부시간 (users_rooms.day_seconds)
+@Getter
+@AllArgsConstructor
+public class RoomMemberSeconds {
+    private final Long roomId;
+    private final Long userId;
+    private final LocalDate date;
+    private final int seconds;
+}
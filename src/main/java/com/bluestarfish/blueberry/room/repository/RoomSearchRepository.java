@@ -0,0 +1,12 @@
+package com.bluestarfish.blueberry.room.repository;
+
+import com.bluestarfish.blueberry.room.entity.Room;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
+
+public interface RoomSearchRepository {
+    Page<Room> searchRooms(String keyword, Boolean isCamEnabled, Pageable pageable);
+
+    Slice<Room> searchRoomsAfter(String keyword, Boolean isCamEnabled, Long cursorId, int size);
+}
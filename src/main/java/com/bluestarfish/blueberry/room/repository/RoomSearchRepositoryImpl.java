@@ -0,0 +1,92 @@
+package com.bluestarfish.blueberry.room.repository;
+
+import com.bluestarfish.blueberry.common.search.FullTextExpressions;
+import com.bluestarfish.blueberry.room.entity.QRoom;
+import com.bluestarfish.blueberry.room.entity.Room;
+import com.querydsl.core.BooleanBuilder;
+import com.querydsl.jpa.JPAExpressions;
+import com.querydsl.jpa.JPQLQuery;
+import com.querydsl.jpa.impl.JPAQueryFactory;
+import lombok.RequiredArgsConstructor;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
+import org.springframework.data.domain.SliceImpl;
+import org.springframework.data.support.PageableExecutionUtils;
+import org.springframework.stereotype.Repository;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+@Repository
+@RequiredArgsConstructor
+public class RoomSearchRepositoryImpl implements RoomSearchRepository {
+
+    private final JPAQueryFactory jpaQueryFactory;
+
+    @Override
+    public Page<Room> searchRooms(String keyword, Boolean isCamEnabled, Pageable pageable) {
+        QRoom room = QRoom.room;
+        BooleanBuilder condition = searchCondition(keyword, isCamEnabled);
+
+        List<Room> rooms = jpaQueryFactory
+                .selectFrom(room)
+                .where(condition)
+                .orderBy(room.createdAt.desc(), room.id.desc())
+                .offset(pageable.getOffset())
+                .limit(pageable.getPageSize())
+                .fetch();
+
+        // 마지막 페이지처럼 전체 개수를 알 수 있는 경우 COUNT 쿼리 생략
+        return PageableExecutionUtils.getPage(rooms, pageable, () -> jpaQueryFactory
+                .select(room.count())
+                .from(room)
+                .where(condition)
+                .fetchOne());
+    }
+
+    @Override
+    public Slice<Room> searchRoomsAfter(String keyword, Boolean isCamEnabled, Long cursorId, int size) {
+        QRoom room = QRoom.room;
+        BooleanBuilder condition = searchCondition(keyword, isCamEnabled);
+
+        // (created_at, id) 기준 키셋 페이징: 커서 방보다 뒤에 생성된 방만 조회
+        if (cursorId != null) {
+            QRoom cursor = new QRoom("cursor");
+            JPQLQuery<LocalDateTime> cursorCreatedAt = JPAExpressions
+                    .select(cursor.createdAt)
+                    .from(cursor)
+                    .where(cursor.id.eq(cursorId));
+
+            condition.and(room.createdAt.lt(cursorCreatedAt)
+                    .or(room.createdAt.eq(cursorCreatedAt).and(room.id.lt(cursorId))));
+        }
+
+        // 다음 페이지 존재 여부 확인을 위해 한 건 더 조회
+        List<Room> rooms = jpaQueryFactory
+                .selectFrom(room)
+                .where(condition)
+                .orderBy(room.createdAt.desc(), room.id.desc())
+                .limit(size + 1L)
+                .fetch();
+
+        boolean hasNext = rooms.size() > size;
+        if (hasNext) {
+            rooms = rooms.subList(0, size);
+        }
+        return new SliceImpl<>(rooms, Pageable.ofSize(size), hasNext);
+    }
+
+    private BooleanBuilder searchCondition(String keyword, Boolean isCamEnabled) {
+        QRoom room = QRoom.room;
+        BooleanBuilder condition = new BooleanBuilder(room.deletedAt.isNull());
+
+        if (keyword != null && !keyword.isBlank()) {
+            condition.and(FullTextExpressions.matches(keyword, room.title, room.description));
+        }
+        if (isCamEnabled != null) {
+            condition.and(room.isCamEnabled.eq(isCamEnabled));
+        }
+        return condition;
+    }
+}
@@ -0,0 +1,42 @@
+package com.bluestarfish.blueberry.room.repository;
+
+import lombok.RequiredArgsConstructor;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Repository;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.sql.Date;
+import java.time.LocalDate;
+import java.util.List;
+
+// 방별 공부시간 집계 적재/반영을 JDBC 로 처리
+@Repository
+@RequiredArgsConstructor
+public class RoomStudyTimeRepository {
+    private static final String SELECT_DAY_SECONDS_SQL = "SELECT ur.room_id, ur.user_id, ur.day_seconds FROM users_rooms ur "
+            + "JOIN rooms r ON r.id = ur.room_id WHERE ur.day_date = ? AND ur.day_seconds > 0 AND r.deleted_at IS NULL";
+    // 날짜가 바뀐 뒤 늦게 반영되는 지난 값이 재입장 등으로 이미 새 날짜가 된 행을 덮어쓰지 않도록 날짜 조건을 둠
+    private static final String UPDATE_DAY_SECONDS_SQL = "UPDATE users_rooms SET day_seconds = ?, day_date = ? "
+            + "WHERE room_id = ? AND user_id = ? AND (day_date IS NULL OR day_date <= ?)";
+
+    private final JdbcTemplate jdbcTemplate;
+
+    @Transactional(readOnly = true)
+    public List<RoomMemberSeconds> findDaySeconds(LocalDate date) {
+        return jdbcTemplate.query(SELECT_DAY_SECONDS_SQL,
+                (rs, rowNum) -> new RoomMemberSeconds(rs.getLong(1), rs.getLong(2), date, rs.getInt(3)),
+                Date.valueOf(date));
+    }
+
+    @Transactional(propagation = Propagation.REQUIRES_NEW)
+    public void saveDaySeconds(List<RoomMemberSeconds> changes) {
+        jdbcTemplate.batchUpdate(UPDATE_DAY_SECONDS_SQL, changes, changes.size(), (ps, change) -> {
+            ps.setInt(1, change.getSeconds());
+            ps.setDate(2, Date.valueOf(change.getDate()));
+            ps.setLong(3, change.getRoomId());
+            ps.setLong(4, change.getUserId());
+            ps.setDate(5, Date.valueOf(change.getDate()));
+        });
+    }
+}
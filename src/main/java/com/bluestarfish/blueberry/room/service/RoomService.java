@@ -5,18 +5,22 @@ import com.bluestarfish.blueberry.room.dto.RoomDetailResponse;
 import com.bluestarfish.blueberry.room.dto.RoomPasswordRequest;
 import com.bluestarfish.blueberry.room.dto.RoomRequest;
 import com.bluestarfish.blueberry.room.dto.RoomResponse;
+import com.bluestarfish.blueberry.room.dto.RoomSliceResponse;
+import com.bluestarfish.blueberry.user.dto.RankResponse;
 import java.util.List;
 import org.springframework.data.domain.Page;
 
 public interface RoomService {
-    void createRoom(RoomRequest roomRequest, String accessToken);
+    void createRoom(RoomRequest roomRequest, Long loginId);
     RoomDetailResponse getRoomById(Long id);
     Page<RoomResponse> getAllRooms(int page, String keyword, Boolean isCanEnabled);
+    RoomSliceResponse getRoomsByCursor(Long cursor, int size, String keyword, Boolean isCamEnabled);
     List<RoomResponse> getMyRooms(Long userId);
     List<RoomResponse> getVisitedRooms(Long userId);
-    void deleteRoomById(Long id, String accessToken);
+    void deleteRoomById(Long id, Long loginId);
     void entranceRoom(Long roomId, Long userId, UserRoomRequest userRoomRequest);
     void exitRoom(Long roomId, Long userId, UserRoomRequest userRoomRequest);
+    List<RankResponse> getRoomRanks(Long roomId, int size);
     int getActiveMemberCount(Long roomId);
     void checkRoomPassword(RoomPasswordRequest roomPasswordRequest);
 }
@@ -5,35 +5,45 @@ import com.bluestarfish.blueberry.common.dto.UserRoomResponse;
 import com.bluestarfish.blueberry.common.entity.UserRoom;
 import com.bluestarfish.blueberry.common.repository.UserRoomRepository;
 import com.bluestarfish.blueberry.common.s3.S3Uploader;
+import com.bluestarfish.blueberry.common.transaction.TransactionCallbacks;
 import com.bluestarfish.blueberry.exception.CustomException;
 import com.bluestarfish.blueberry.exception.ExceptionDomain;
-import com.bluestarfish.blueberry.jwt.JWTUtils;
+import com.bluestarfish.blueberry.room.cache.HostedRoomCountCache;
+import com.bluestarfish.blueberry.room.cache.RoomAccess;
+import com.bluestarfish.blueberry.room.cache.RoomAccessCache;
+import com.bluestarfish.blueberry.room.cache.RoomDetailCache;
+import com.bluestarfish.blueberry.room.cache.RoomMetadata;
 import com.bluestarfish.blueberry.room.dto.RoomDetailResponse;
 import com.bluestarfish.blueberry.room.dto.RoomPasswordRequest;
 import com.bluestarfish.blueberry.room.dto.RoomRequest;
 import com.bluestarfish.blueberry.room.dto.RoomResponse;
+import com.bluestarfish.blueberry.room.dto.RoomSliceResponse;
 import com.bluestarfish.blueberry.room.entity.Room;
+import com.bluestarfish.blueberry.room.leaderboard.RoomStudyTimeAggregator;
+import com.bluestarfish.blueberry.room.occupancy.RoomOccupancyRegistry;
 import com.bluestarfish.blueberry.room.repository.RoomRepository;
+import com.bluestarfish.blueberry.user.cache.UserStatusCache;
+import com.bluestarfish.blueberry.user.dto.RankResponse;
 import com.bluestarfish.blueberry.user.entity.User;
+import com.bluestarfish.blueberry.user.rank.LiveRank;
 import com.bluestarfish.blueberry.user.repository.UserRepository;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.beans.factory.annotation.Value;
+import org.springframework.dao.DataIntegrityViolationException;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.PageRequest;
 import org.springframework.data.domain.Pageable;
-import org.springframework.data.domain.Sort;
-import org.springframework.data.domain.Sort.Direction;
+import org.springframework.data.domain.Slice;
 import org.springframework.http.HttpStatus;
+import org.springframework.security.crypto.password.PasswordEncoder;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 import org.springframework.web.multipart.MultipartFile;
 
-import java.net.URLDecoder;
-import java.nio.charset.StandardCharsets;
-import java.sql.Time;
 import java.time.LocalDateTime;
 import java.util.List;
+import java.util.Map;
 import java.util.stream.Collectors;
 
 @Slf4j
@@ -41,42 +51,51 @@ import java.util.stream.Collectors;
 @Transactional
 @RequiredArgsConstructor
 public class RoomServiceImpl implements RoomService {
+    private static final int MAX_SLICE_SIZE = 50;
+    private static final int MAX_HOSTED_ROOMS = 5;
+    private static final int MAX_RANK_SIZE = 50;
+    private static final int SECONDS_PER_DAY = 86400;
+
     @Value("${room.image.storage}")
     private String roomThumbnailStorage;
 
     private final RoomRepository roomRepository;
     private final UserRoomRepository userRoomRepository;
     private final UserRepository userRepository;
-    private final JWTUtils jwtUtils;
     private final S3Uploader s3Uploader;
+    private final RoomOccupancyRegistry roomOccupancyRegistry;
+    private final HostedRoomCountCache hostedRoomCountCache;
+    private final RoomDetailCache roomDetailCache;
+    private final RoomAccessCache roomAccessCache;
+    private final RoomStudyTimeAggregator roomStudyTimeAggregator;
+    private final UserStatusCache userStatusCache;
+    private final PasswordEncoder passwordEncoder;
 
     @Override
-    public void createRoom(RoomRequest roomRequest, String accessToken) {
-        Long tokenId = jwtUtils.getId(URLDecoder.decode(accessToken, StandardCharsets.UTF_8));
-
-        // 스터디룸 썸네일 이미지 처리
-        String imagePath = null;
-        MultipartFile multipartFile = roomRequest.getThumbnail();
-
-        if (multipartFile != null && !multipartFile.isEmpty()) {
-            imagePath = s3Uploader.upload(multipartFile, roomThumbnailStorage);
-        }
-
+    public void createRoom(RoomRequest roomRequest, Long loginId) {
         // 요청 보낸 유저 확인
         User user = userRepository.findByIdAndDeletedAtIsNull(roomRequest.getUserId())
                 .orElseThrow(() -> new CustomException("User not found with id: " + roomRequest.getUserId(), ExceptionDomain.ROOM, HttpStatus.NOT_FOUND));
 
-        if (!tokenId.equals(user.getId())) {
+        if (!loginId.equals(user.getId())) {
             throw new CustomException("Not match request ID and login ID", ExceptionDomain.ROOM, HttpStatus.UNAUTHORIZED);
         }
 
-        // 유저가 만든 스터디룸 개수 확인
-        if(countRoomByUserID(user.getId()) >= 5) {
+        // 유저가 만든 스터디룸 개수 확인 (거절될 요청은 썸네일을 업로드하지 않도록 먼저 확인)
+        if (hostedRoomCountCache.get(user.getId()) >= MAX_HOSTED_ROOMS) {
             throw new CustomException("Too Many Room to Make More Rooms.", ExceptionDomain.ROOM, HttpStatus.FORBIDDEN);
         }
 
+        // 스터디룸 썸네일 이미지 처리
+        String imagePath = null;
+        MultipartFile multipartFile = roomRequest.getThumbnail();
+
+        if (multipartFile != null && !multipartFile.isEmpty()) {
+            imagePath = s3Uploader.upload(multipartFile, roomThumbnailStorage);
+        }
+
         // 스터디룸 데이터 생성
-        Room room = roomRepository.save(roomRequest.toEntity(imagePath));
+        Room room = roomRepository.save(roomRequest.toEntity(imagePath, encodePassword(roomRequest.getPassword())));
         UserRoom userRoom = UserRoom.builder()
                 .user(user)
                 .room(room)
@@ -85,116 +104,152 @@ public class RoomServiceImpl implements RoomService {
                 .camEnabled(false)
                 .micEnabled(false)
                 .speakerEnabled(false)
-                .goalTime(new Time(0))
-                .dayTime(new Time(0))
+                .goalSeconds(0)
+                .daySeconds(0)
                 .build();
 
         userRoomRepository.save(userRoom);
+        hostedRoomCountCache.evict(user.getId());
     }
 
-    // 유저가 만든 스터디룸의 개수를 반환
-    private int countRoomByUserID(Long userId) {
-        List<Room> rooms = roomRepository.findRoomsByUserIdAndIsHost(userId);
-        return rooms.size();
+    // 비밀번호가 없는 방은 빈 문자열로 저장
+    private String encodePassword(String password) {
+        if (password == null || password.isEmpty()) {
+            return "";
+        }
+        return passwordEncoder.encode(password);
     }
 
     @Override
     public RoomDetailResponse getRoomById(Long id) {
-        Room room = roomRepository.findByIdAndDeletedAtIsNull(id)
+        RoomMetadata room = roomDetailCache.get(id)
                 .orElseThrow(() -> new CustomException("Room not found with id: " + id, ExceptionDomain.ROOM, HttpStatus.NOT_FOUND));
-        List<UserRoomResponse> userRooms = userRoomRepository.findByRoomIdAndIsActiveTrue(room.getId())
-                .stream().map(userRoom -> UserRoomResponse.from(userRoom, userRoom.getUser()))
-                .collect(Collectors.toList());
-        return RoomDetailResponse.from(room, userRooms);
+        return RoomDetailResponse.from(room, roomOccupancyRegistry.getParticipants(id));
     }
 
     @Override
     public Page<RoomResponse> getAllRooms(int page, String keyword, Boolean isCamEnabled) {
-        Pageable pageable = PageRequest.of(page, 10, Sort.by(Direction.DESC, "createdAt"));
-
-        // 이후 QueryDSL or @Query 스타일로 변경 검토
-        if (keyword == null && isCamEnabled == null) { // 검색 keyword가 없고, 캠 여부가 전체 인 경우 조회
-            return roomRepository.findByDeletedAtIsNull(pageable)
-                    .map(room -> RoomResponse.from(room, getActiveMemberCount(room.getId())));
-        } else if (keyword == null) { // 검색어가 없고, 캠여부가 true or false 인 경우 조회
-            if (isCamEnabled) {
-                return roomRepository.findByIsCamEnabledAndDeletedAtIsNull(true, pageable)
-                        .map(room -> RoomResponse.from(room, getActiveMemberCount(room.getId())));
-            } else {
-                return roomRepository.findByIsCamEnabledAndDeletedAtIsNull(false, pageable)
-                        .map(room -> RoomResponse.from(room, getActiveMemberCount(room.getId())));
-            }
-        } else if (isCamEnabled == null) { // 검색어가 있고, 캠 여부가 all 인 경우 조회
-            return roomRepository.findByTitleContainingAndDeletedAtIsNull(keyword, pageable)
-                    .map(room -> RoomResponse.from(room, getActiveMemberCount(room.getId())));
-        } else { // 검색어가 있고, 캠 여부가 true or false 인 경우 조회
-            if (isCamEnabled) {
-                return roomRepository.findByTitleContainingAndIsCamEnabledAndDeletedAtIsNull(keyword, true, pageable)
-                        .map(room -> RoomResponse.from(room, getActiveMemberCount(room.getId())));
-            } else {
-                return roomRepository.findByTitleContainingAndIsCamEnabledAndDeletedAtIsNull(keyword, false, pageable)
-                        .map(room -> RoomResponse.from(room, getActiveMemberCount(room.getId())));
-            }
+        Pageable pageable = PageRequest.of(page, 10);
+        return toRoomResponses(roomRepository.searchRooms(keyword, isCamEnabled, pageable));
+    }
+
+    @Override
+    public RoomSliceResponse getRoomsByCursor(Long cursor, int size, String keyword, Boolean isCamEnabled) {
+        if (size < 1 || size > MAX_SLICE_SIZE) {
+            throw new CustomException("Slice size must be between 1 and " + MAX_SLICE_SIZE, ExceptionDomain.ROOM, HttpStatus.BAD_REQUEST);
         }
+        Slice<Room> rooms = roomRepository.searchRoomsAfter(keyword, isCamEnabled, cursor, size);
+        return RoomSliceResponse.of(toRoomResponses(rooms.getContent()), rooms.hasNext());
     }
 
     @Override
     public List<RoomResponse> getMyRooms(Long userId) {
-        return roomRepository.findRoomsByUserIdAndIsHost(userId).stream().map(room -> RoomResponse.from(room,
-                userRoomRepository.countActiveMembersByRoomId(room.getId()))).collect(Collectors.toList());
+        return toRoomResponses(roomRepository.findRoomsByUserIdAndIsHost(userId));
     }
 
     @Override
     public List<RoomResponse> getVisitedRooms(Long userId) {
-        return roomRepository.findRoomsByUserIdAndDeletedAtIsNull(userId).stream().map(room -> RoomResponse.from(room,
-                userRoomRepository.countActiveMembersByRoomId(room.getId()))).collect(Collectors.toList());
+        return toRoomResponses(roomRepository.findRoomsByUserIdAndDeletedAtIsNull(userId));
     }
 
-    @Override
-    public void deleteRoomById(Long id, String accessToken) {
-        Long tokenId = jwtUtils.getId(URLDecoder.decode(accessToken, StandardCharsets.UTF_8));
+    // 방마다 인원수를 따로 조회하지 않도록 한 번에 묶어서 조회
+    private Page<RoomResponse> toRoomResponses(Page<Room> rooms) {
+        Map<Long, Integer> memberCounts = countActiveMembers(rooms.getContent());
+        return rooms.map(room -> RoomResponse.from(room, memberCounts.getOrDefault(room.getId(), 0)));
+    }
+
+    private List<RoomResponse> toRoomResponses(List<Room> rooms) {
+        Map<Long, Integer> memberCounts = countActiveMembers(rooms);
+        return rooms.stream()
+                .map(room -> RoomResponse.from(room, memberCounts.getOrDefault(room.getId(), 0)))
+                .collect(Collectors.toList());
+    }
+
+    private Map<Long, Integer> countActiveMembers(List<Room> rooms) {
+        List<Long> roomIds = rooms.stream()
+                .map(Room::getId)
+                .collect(Collectors.toList());
+        return roomOccupancyRegistry.getCounts(roomIds);
+    }
 
+    @Override
+    public void deleteRoomById(Long id, Long loginId) {
         UserRoom userRoom = userRoomRepository.findByRoomIdAndIsHostTrue(id);
-        if (!tokenId.equals(userRoom.getUser().getId())) {
+        if (!loginId.equals(userRoom.getUser().getId())) {
             throw new CustomException("Not match request ID and login ID", ExceptionDomain.ROOM, HttpStatus.UNAUTHORIZED);
         }
         Room room = roomRepository.findByIdAndDeletedAtIsNull(id)
                 .orElseThrow(() -> new CustomException("Room not found with id: " + id, ExceptionDomain.ROOM, HttpStatus.NOT_FOUND));
         room.setDeletedAt(LocalDateTime.now());
+        // 롤백되면 방이 그대로 남으므로 메모리 상태는 커밋된 뒤에 정리
+        TransactionCallbacks.afterCommit(() -> {
+            roomOccupancyRegistry.removeRoom(id);
+            roomStudyTimeAggregator.removeRoom(id);
+        });
+        roomDetailCache.evict(id);
+        roomAccessCache.evict(id);
+        hostedRoomCountCache.evict(loginId);
     }
 
     @Override
     public void entranceRoom(Long roomId, Long userId, UserRoomRequest userRoomRequest) {
-        Room room = roomRepository.findByIdAndDeletedAtIsNull(roomId)
+        validateDaySeconds(userRoomRequest.getGoalTime(), "Goal time");
+        validateDaySeconds(userRoomRequest.getDayTime(), "Day time");
+
+        RoomAccess room = roomAccessCache.getActive(roomId)
                 .orElseThrow(() -> new CustomException("Room not found this room id: " + roomId, ExceptionDomain.ROOM, HttpStatus.NOT_FOUND));
-        boolean needPassword = !room.getPassword().isEmpty();
-        boolean isExisted = userRoomRepository.findByRoomIdAndUserId(roomId, userId).isPresent();
 
-        if (needPassword) {
-            if (userRoomRequest.getPassword() == null || !userRoomRequest.getPassword().equals(room.getPassword())) {
-                throw new CustomException("Password is not correct", ExceptionDomain.ROOM, HttpStatus.UNAUTHORIZED);
-            }
+        if (!room.matches(userRoomRequest.getPassword(), passwordEncoder)) {
+            throw new CustomException("Password is not correct", ExceptionDomain.ROOM, HttpStatus.UNAUTHORIZED);
+        }
+
+        // 탈퇴는 soft delete 라 FK 로 걸러지지 않으므로 자리를 예약하기 전에 확인
+        if (!userStatusCache.isActive(userId)) {
+            throw new CustomException("User not found this user id: " + userId, ExceptionDomain.USERROOM, HttpStatus.NOT_FOUND);
+        }
+
+        if (!roomOccupancyRegistry.tryAdmit(roomId, userId, room.getMaxUsers())) {
+            throw new CustomException("Room is full: " + roomId, ExceptionDomain.ROOM, HttpStatus.CONFLICT);
         }
 
-        if (isExisted) { // 재입장
+        // 예약한 자리는 입장 처리 중 예외가 나거나 트랜잭션이 롤백되면 반납
+        Runnable release = () -> {
+            roomOccupancyRegistry.leave(roomId, userId);
+            roomStudyTimeAggregator.leave(roomId, userId);
+        };
+        boolean entered = false;
+        try {
+            try {
+                userRoomRepository.upsertActive(
+                        roomId,
+                        userId,
+                        userRoomRequest.isHost(),
+                        userRoomRequest.isCamEnabled(),
+                        userRoomRequest.isMicEnabled(),
+                        userRoomRequest.isSpeakerEnabled(),
+                        userRoomRequest.getGoalTime()
+                );
+            } catch (DataIntegrityViolationException e) { // 존재하지 않는 유저
+                throw new CustomException("User not found this user id: " + userId, ExceptionDomain.USERROOM, HttpStatus.NOT_FOUND);
+            }
 
-            UserRoom userRoom = userRoomRepository.findByRoomIdAndUserId(roomId, userId)
-                    .orElseThrow(() -> new CustomException("UserRoom not found this user id: " + userId, ExceptionDomain.USERROOM, HttpStatus.NOT_FOUND));
-            userRoom.setActive(true);
-        } else { // 첫 입장
-            User user = userRepository.findByIdAndDeletedAtIsNull(userId)
+            UserRoomResponse participant = userRoomRepository.findParticipant(roomId, userId)
                     .orElseThrow(() -> new CustomException("User not found this user id: " + userId, ExceptionDomain.USERROOM, HttpStatus.NOT_FOUND));
-            userRoomRepository.save(UserRoom.builder()
-                    .user(user)
-                    .room(room)
-                    .isHost(userRoomRequest.isHost())
-                    .isActive(userRoomRequest.isActive())
-                    .camEnabled(userRoomRequest.isCamEnabled())
-                    .micEnabled(userRoomRequest.isMicEnabled())
-                    .speakerEnabled(userRoomRequest.isSpeakerEnabled())
-                    .goalTime(userRoomRequest.getGoalTime())
-                    .dayTime(userRoomRequest.getDayTime())
-                    .build());
+            roomOccupancyRegistry.join(roomId, participant);
+            roomStudyTimeAggregator.enter(roomId, userId);
+            entered = true;
+        } finally {
+            if (!entered) {
+                release.run();
+            }
+        }
+        TransactionCallbacks.afterRollback(release);
+    }
+
+    // users_rooms 의 초 컬럼은 INT 이므로 범위를 넘는 값은 캐스팅 전에 거절
+    private void validateDaySeconds(long seconds, String field) {
+        if (seconds < 0 || seconds > SECONDS_PER_DAY) {
+            throw new CustomException(field + " must be between 0 and " + SECONDS_PER_DAY + " seconds", ExceptionDomain.USERROOM, HttpStatus.BAD_REQUEST);
         }
     }
 
@@ -203,19 +258,39 @@ public class RoomServiceImpl implements RoomService {
         UserRoom userRoom = userRoomRepository.findByRoomIdAndUserId(roomId, userId)
                 .orElseThrow(() -> new CustomException("UserRoom not found this user id: " + userId, ExceptionDomain.USERROOM, HttpStatus.NOT_FOUND));
         userRoom.setActive(false);
+        roomOccupancyRegistry.leave(roomId, userId);
+        roomStudyTimeAggregator.leave(roomId, userId);
+    }
+
+    @Override
+    public List<RankResponse> getRoomRanks(Long roomId, int size) {
+        if (size < 1 || size > MAX_RANK_SIZE) {
+            throw new CustomException("Rank size must be between 1 and " + MAX_RANK_SIZE, ExceptionDomain.ROOM, HttpStatus.BAD_REQUEST);
+        }
+        roomDetailCache.get(roomId)
+                .orElseThrow(() -> new CustomException("Room not found with id: " + roomId, ExceptionDomain.ROOM, HttpStatus.NOT_FOUND));
+
+        List<LiveRank> top = roomStudyTimeAggregator.getTop(roomId, size);
+        Map<Long, String> nicknames = userRepository.findAllById(top.stream().map(LiveRank::getUserId).toList()).stream()
+                .filter(user -> user.getNickname() != null)
+                .collect(Collectors.toMap(User::getId, User::getNickname));
+
+        return top.stream()
+                .map(rank -> RankResponse.of(rank.getRank(), nicknames.get(rank.getUserId()), rank.getSeconds()))
+                .collect(Collectors.toList());
     }
 
     @Override
     public int getActiveMemberCount(Long roomId) {
-        return userRoomRepository.countActiveMembersByRoomId(roomId);
+        return roomOccupancyRegistry.getCount(roomId);
     }
 
     @Override
     public void checkRoomPassword(RoomPasswordRequest roomPasswordRequest) {
-        Room room = roomRepository.findByIdAndDeletedAtIsNull(roomPasswordRequest.getRoomId())
+        RoomAccess room = roomAccessCache.getActive(roomPasswordRequest.getRoomId())
                 .orElseThrow(() -> new CustomException("Room not found this room id: " + roomPasswordRequest.getRoomId(), ExceptionDomain.ROOM, HttpStatus.NOT_FOUND));
 
-        if (!roomPasswordRequest.getPassword().equals(room.getPassword())) {
+        if (!room.matches(roomPasswordRequest.getPassword(), passwordEncoder)) {
             throw new CustomException("Password verification failed.", ExceptionDomain.ROOM, HttpStatus.UNAUTHORIZED);
         }
     }
@@ -0,0 +1,138 @@
+package com.bluestarfish.blueberry.user.buffer;
+
+import com.bluestarfish.blueberry.user.repository.StudyTimeBatchRepository;
+import com.bluestarfish.blueberry.user.repository.StudyTimeChange;
+import jakarta.annotation.PreDestroy;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.dao.DataAccessException;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.OptionalInt;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+
+// 공부시간 heartbeat 쓰기 버퍼, (유저, 날짜)별 최신 값만 들고 있다가 주기적으로 배치 반영
+// 비정상 종료 시 유실 범위는 마지막 flush 이후(flush-interval)로 제한
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class StudyTimeWriteBuffer {
+    private final StudyTimeBatchRepository studyTimeBatchRepository;
+
+    private final ConcurrentMap<Key, Entry> entries = new ConcurrentHashMap<>();
+    private final Object flushLock = new Object();
+
+    // 이미 버퍼에 있는 (유저, 날짜)면 값만 바꾸고 true, 처음이면 false (register 필요)
+    public boolean update(Long userId, LocalDate date, int seconds) {
+        return entries.computeIfPresent(new Key(userId, date), (key, entry) -> entry.update(seconds)) != null;
+    }
+
+    // DB 에 저장된 값을 기준으로 등록, 그 사이 다른 요청이 먼저 등록했다면 그 기준을 유지
+    public void register(Long userId, LocalDate date, int persistedSeconds, int seconds) {
+        entries.merge(new Key(userId, date), new Entry(persistedSeconds, seconds), (current, registered) -> current.update(seconds));
+    }
+
+    public OptionalInt find(Long userId, LocalDate date) {
+        Entry entry = entries.get(new Key(userId, date));
+        return entry == null ? OptionalInt.empty() : OptionalInt.of(entry.seconds());
+    }
+
+    @Scheduled(
+            initialDelayString = "${study-time.buffer.flush-interval:5000}",
+            fixedDelayString = "${study-time.buffer.flush-interval:5000}"
+    )
+    public void flush() {
+        synchronized (flushLock) {
+            Map<Key, Entry> flushing = new HashMap<>();
+            entries.forEach((key, entry) -> {
+                if (entry.isDirty()) {
+                    flushing.put(key, entry);
+                }
+            });
+
+            if (!flushing.isEmpty()) {
+                save(flushing);
+            }
+
+            // 지난 날짜는 모두 반영된 뒤에 비움 (반영 중 값이 바뀐 항목은 remove(key, value) 가 실패해 남음)
+            LocalDate today = LocalDate.now();
+            entries.entrySet().removeIf(entry -> entry.getKey().date().isBefore(today) && !entry.getValue().isDirty());
+        }
+    }
+
+    @PreDestroy
+    public void flushOnShutdown() {
+        flush();
+        log.info("공부시간 쓰기 버퍼 종료 전 반영 완료: 미반영 {}건", entries.values().stream().filter(Entry::isDirty).count());
+    }
+
+    public int size() {
+        return entries.size();
+    }
+
+    private void save(Map<Key, Entry> flushing) {
+        try {
+            studyTimeBatchRepository.saveAll(toChanges(flushing));
+            markFlushed(flushing);
+        } catch (DataIntegrityViolationException e) {
+            // 탈퇴 후 삭제된 유저 등 한 건 때문에 배치 전체가 계속 실패하지 않도록 건별로 재시도
+            flushing.forEach((key, entry) -> saveOne(key, entry));
+        } catch (DataAccessException e) {
+            log.error("공부시간 배치 반영 실패, 다음 주기에 재시도: {}건", flushing.size(), e);
+        }
+    }
+
+    private void saveOne(Key key, Entry entry) {
+        Map<Key, Entry> single = Map.of(key, entry);
+        try {
+            studyTimeBatchRepository.saveAll(toChanges(single));
+            markFlushed(single);
+        } catch (DataIntegrityViolationException e) {
+            log.warn("반영할 수 없는 공부시간 버림: userId={}, date={}", key.userId(), key.date());
+            entries.remove(key, entry);
+        } catch (DataAccessException e) {
+            log.error("공부시간 반영 실패, 다음 주기에 재시도: userId={}", key.userId(), e);
+        }
+    }
+
+    private List<StudyTimeChange> toChanges(Map<Key, Entry> flushing) {
+        List<StudyTimeChange> changes = new ArrayList<>(flushing.size());
+        flushing.forEach((key, entry) -> changes.add(new StudyTimeChange(
+                key.userId(),
+                key.date(),
+                entry.seconds(),
+                entry.seconds() - (long) entry.persistedSeconds()
+        )));
+        return changes;
+    }
+
+    // 반영한 값을 새 기준값으로, 반영 중 들어온 값은 다음 flush 에서 차이만큼 반영
+    private void markFlushed(Map<Key, Entry> flushed) {
+        flushed.forEach((key, entry) -> entries.computeIfPresent(key, (k, current) -> current.flushed(entry.seconds())));
+    }
+
+    private record Key(Long userId, LocalDate date) {
+    }
+
+    private record Entry(int persistedSeconds, int seconds) {
+        Entry update(int newSeconds) {
+            return new Entry(persistedSeconds, newSeconds);
+        }
+
+        Entry flushed(int flushedSeconds) {
+            return new Entry(flushedSeconds, seconds);
+        }
+
+        boolean isDirty() {
+            return persistedSeconds != seconds;
+        }
+    }
+}
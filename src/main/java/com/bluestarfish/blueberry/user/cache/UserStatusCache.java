@@ -0,0 +1,38 @@
+package com.bluestarfish.blueberry.user.cache;
+
+import com.bluestarfish.blueberry.common.cache.CacheEvictions;
+import com.bluestarfish.blueberry.user.repository.UserRepository;
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+
+// 유저 상태(존재하고 탈퇴하지 않았는지) 캐시, 인가 필터가 요청마다 유저를 조회하지 않도록 사용
+// 탈퇴는 커밋 후 바로 제거하고, 그 밖의 변경(관리자 삭제 등)은 짧은 TTL 안에 반영됨
+@Component
+public class UserStatusCache {
+    private final UserRepository userRepository;
+    private final Cache<Long, Boolean> statuses;
+
+    public UserStatusCache(
+            UserRepository userRepository,
+            @Value("${user.cache.status.max-size:100000}") long maxSize,
+            @Value("${user.cache.status.ttl:1m}") Duration ttl
+    ) {
+        this.userRepository = userRepository;
+        this.statuses = Caffeine.newBuilder()
+                .maximumSize(maxSize)
+                .expireAfterWrite(ttl)
+                .build();
+    }
+
+    public boolean isActive(Long userId) {
+        return statuses.get(userId, userRepository::existsByIdAndDeletedAtIsNull);
+    }
+
+    public void evict(Long userId) {
+        CacheEvictions.afterCommit(() -> statuses.invalidate(userId));
+    }
+}
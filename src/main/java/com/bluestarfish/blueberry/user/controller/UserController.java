@@ -1,15 +1,22 @@
 package com.bluestarfish.blueberry.user.controller;
 
 import com.bluestarfish.blueberry.common.dto.ApiSuccessResponse;
+import com.bluestarfish.blueberry.jwt.CurrentUserId;
 import com.bluestarfish.blueberry.user.dto.JoinRequest;
 import com.bluestarfish.blueberry.user.dto.PasswordResetRequest;
 import com.bluestarfish.blueberry.user.dto.StudyTimeUpdateRequest;
 import com.bluestarfish.blueberry.user.dto.UserUpdateRequest;
+import com.bluestarfish.blueberry.user.export.StudyTimeExportFormat;
 import com.bluestarfish.blueberry.user.service.StudyTimeService;
 import com.bluestarfish.blueberry.user.service.UserService;
 import lombok.RequiredArgsConstructor;
+import org.springframework.http.ContentDisposition;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
 
 import java.io.IOException;
 
@@ -25,9 +32,9 @@ public class UserController {
 
     @GetMapping("/whoami")
     public ApiSuccessResponse<?> whoami(
-            @CookieValue(name = "Authorization") String accessToken
+            @CurrentUserId Long loginId
     ) {
-        return handleSuccessResponse(userService.getUserByToken(accessToken), HttpStatus.OK);
+        return handleSuccessResponse(userService.getLoginUser(loginId), HttpStatus.OK);
     }
 
     @PostMapping
@@ -49,18 +56,18 @@ public class UserController {
     public ApiSuccessResponse<?> update(
             @PathVariable("userId") Long id,
             @ModelAttribute UserUpdateRequest userUpdateRequest,
-            @CookieValue(name = "Authorization") String accessToken
+            @CurrentUserId Long loginId
     ) throws IOException {
-        userService.update(id, userUpdateRequest, accessToken);
+        userService.update(id, userUpdateRequest, loginId);
         return handleSuccessResponse(HttpStatus.NO_CONTENT);
     }
 
     @DeleteMapping("/{userId}")
     public ApiSuccessResponse<?> withdraw(
             @PathVariable("userId") Long id,
-            @CookieValue(name = "Authorization") String accessToken
+            @CurrentUserId Long loginId
     ) {
-        userService.withdraw(id, accessToken);
+        userService.withdraw(id, loginId);
         return handleSuccessResponse(HttpStatus.NO_CONTENT);
     }
 
@@ -75,18 +82,18 @@ public class UserController {
     @PatchMapping("/password")
     public ApiSuccessResponse<?> resetPassword(
             @RequestBody PasswordResetRequest passwordResetRequest,
-            @CookieValue(name = "Authorization") String accessToken
+            @CurrentUserId Long loginId
     ) {
-        userService.resetPassword(passwordResetRequest, accessToken);
+        userService.resetPassword(passwordResetRequest, loginId);
         return handleSuccessResponse(HttpStatus.NO_CONTENT);
     }
     
     @GetMapping
     public ApiSuccessResponse<?> findUsersByNickname(
-            @CookieValue("Authorization") String accessToken,
+            @CurrentUserId Long loginId,
             @RequestParam("keyword") String keyword
     ) {
-        return handleSuccessResponse(userService.searchUsers(accessToken, keyword), HttpStatus.OK);
+        return handleSuccessResponse(userService.searchUsers(loginId, keyword), HttpStatus.OK);
     }
 
     @GetMapping("/{userId}/time")
@@ -96,6 +103,23 @@ public class UserController {
         return handleSuccessResponse(userService.getStudyTime(userId), HttpStatus.OK);
     }
 
+    @GetMapping("/{userId}/time/export")
+    public ResponseEntity<StreamingResponseBody> exportStudyTimes(
+            @PathVariable("userId") Long userId,
+            @RequestParam(name = "format", defaultValue = "csv") String format,
+            @CurrentUserId Long loginId
+    ) {
+        StudyTimeExportFormat exportFormat = StudyTimeExportFormat.from(format);
+        ContentDisposition contentDisposition = ContentDisposition.attachment()
+                .filename("study-time-" + userId + "." + exportFormat.getExtension())
+                .build();
+
+        return ResponseEntity.ok()
+                .contentType(MediaType.parseMediaType(exportFormat.getContentType()))
+                .header(HttpHeaders.CONTENT_DISPOSITION, contentDisposition.toString())
+                .body(userService.exportStudyTimes(userId, exportFormat, loginId));
+    }
+
     @PatchMapping("/{userId}/time")
     public ApiSuccessResponse<?> updateStudyTime(
             @PathVariable("userId") Long userId,
@@ -112,6 +136,13 @@ public class UserController {
         return handleSuccessResponse(userService.getRanks(userId), HttpStatus.OK);
     }
 
+    @GetMapping("/{userId}/ranks/live")
+    public ApiSuccessResponse<?> getLiveRanks(
+            @PathVariable Long userId
+    ) {
+        return handleSuccessResponse(userService.getLiveRanks(userId), HttpStatus.OK);
+    }
+
     @GetMapping("/my/chart/{userId}")
     public ApiSuccessResponse<?> getChartData(
             @PathVariable("userId") Long userId
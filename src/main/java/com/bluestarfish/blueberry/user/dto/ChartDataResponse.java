@@ -1,6 +1,7 @@
 package com.bluestarfish.blueberry.user.dto;
 
-import java.sql.Time;
+import com.bluestarfish.blueberry.common.serializer.SecondsSerializer;
+import com.fasterxml.jackson.databind.annotation.JsonSerialize;
 import lombok.Builder;
 import lombok.Getter;
 import lombok.Setter;
@@ -11,5 +12,6 @@ import lombok.Setter;
 public class ChartDataResponse {
     String type;
     int no;
-    Time time;
+    @JsonSerialize(using = SecondsSerializer.class)
+    long time;
 }
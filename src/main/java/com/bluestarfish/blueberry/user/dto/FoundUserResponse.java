@@ -1,12 +1,12 @@
 package com.bluestarfish.blueberry.user.dto;
 
+import com.bluestarfish.blueberry.common.serializer.SecondsSerializer;
+import com.fasterxml.jackson.databind.annotation.JsonSerialize;
 import lombok.AllArgsConstructor;
 import lombok.Builder;
 import lombok.Getter;
 import lombok.Setter;
 
-import java.sql.Time;
-
 @Getter
 @Setter
 @Builder
@@ -15,6 +15,7 @@ public class FoundUserResponse {
     private Long id;
     private String profileImage;
     private String nickname;
-    private Time time;
+    @JsonSerialize(using = SecondsSerializer.class)
+    private Long time;
     private Boolean isFriend;
 }
@@ -1,14 +1,23 @@
 package com.bluestarfish.blueberry.user.dto;
 
+import com.bluestarfish.blueberry.common.serializer.SecondsSerializer;
+import com.fasterxml.jackson.databind.annotation.JsonSerialize;
 import lombok.Builder;
 import lombok.Getter;
 
-import java.sql.Time;
-
 @Getter
 @Builder
 public class RankResponse {
     private Integer rank;
     private String nickname;
-    private Time time;
+    @JsonSerialize(using = SecondsSerializer.class)
+    private long time;
+
+    public static RankResponse of(int rank, String nickname, long seconds) {
+        return RankResponse.builder()
+                .rank(rank)
+                .nickname(nickname)
+                .time(seconds)
+                .build();
+    }
 }
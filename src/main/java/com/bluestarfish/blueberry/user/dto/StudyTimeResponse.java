@@ -1,24 +1,25 @@
 package com.bluestarfish.blueberry.user.dto;
 
+import com.bluestarfish.blueberry.common.serializer.SecondsSerializer;
 import com.bluestarfish.blueberry.user.entity.StudyTime;
+import com.fasterxml.jackson.databind.annotation.JsonSerialize;
 import lombok.Builder;
 import lombok.Getter;
 import lombok.Setter;
 
-import java.sql.Time;
-
 @Getter
 @Setter
 @Builder
 public class StudyTimeResponse {
     private Long id;
-    private Time time;
+    @JsonSerialize(using = SecondsSerializer.class)
+    private long time;
     private UserResponse userResponse;
 
     public static StudyTimeResponse from(StudyTime studyTime) {
         return StudyTimeResponse.builder()
                 .id(studyTime.getId())
-                .time(studyTime.getTime())
+                .time(studyTime.getSeconds())
                 .userResponse(UserResponse.from(studyTime.getUser()))
                 .build();
     }
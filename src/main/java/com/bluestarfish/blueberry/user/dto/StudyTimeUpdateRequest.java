@@ -1,14 +1,15 @@
 package com.bluestarfish.blueberry.user.dto;
 
+import com.bluestarfish.blueberry.common.serializer.SecondsDeserializer;
+import com.fasterxml.jackson.databind.annotation.JsonDeserialize;
 import lombok.Getter;
 import lombok.NoArgsConstructor;
 import lombok.Setter;
 
-import java.sql.Time;
-
 @Getter
 @Setter
 @NoArgsConstructor
 public class StudyTimeUpdateRequest {
-    private Time time;
+    @JsonDeserialize(using = SecondsDeserializer.class)
+    private long time;
 }
@@ -0,0 +1,46 @@
+package com.bluestarfish.blueberry.user.entity;
+
+import jakarta.persistence.*;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDate;
+
+// 전날 공부시간 랭킹 스냅샷 (재시작 시 재계산 없이 그대로 로드)
+@Getter
+@Entity
+@NoArgsConstructor
+@Table(name = "daily_rank",
+        uniqueConstraints = {@UniqueConstraint(name = "uk_daily_rank_date_ranking", columnNames = {"rank_date", "ranking"})}
+)
+public class DailyRank {
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    private Long id;
+
+    @Column(name = "rank_date", nullable = false)
+    private LocalDate rankDate;
+
+    @Column(nullable = false)
+    private Integer ranking;
+
+    @Column(name = "user_id", nullable = false)
+    private Long userId;
+
+    @Column(nullable = false)
+    private Integer seconds;
+
+    @Builder
+    public DailyRank(
+            LocalDate rankDate,
+            Integer ranking,
+            Long userId,
+            Integer seconds
+    ) {
+        this.rankDate = rankDate;
+        this.ranking = ranking;
+        this.userId = userId;
+        this.seconds = seconds;
+    }
+}
@@ -8,7 +8,6 @@ import lombok.Setter;
 import org.hibernate.annotations.OnDelete;
 import org.hibernate.annotations.OnDeleteAction;
 
-import java.sql.Time;
 import java.time.LocalDate;
 
 @Getter
@@ -17,7 +16,7 @@ import java.time.LocalDate;
 @NoArgsConstructor
 @Table(name = "study_time",
         uniqueConstraints = {@UniqueConstraint(columnNames = {"user_id", "date"})},
-        indexes = {@Index(name = "idx_time", columnList = "time")}
+        indexes = {@Index(name = "idx_study_time_date_seconds", columnList = "date, seconds")}
 )
 public class StudyTime {
     @Id
@@ -25,7 +24,7 @@ public class StudyTime {
     @Column(unique = true, nullable = false)
     private Long id;
 
-    @ManyToOne
+    @ManyToOne(fetch = FetchType.LAZY)
     @JoinColumn(name = "user_id", nullable = false)
     @OnDelete(action = OnDeleteAction.CASCADE)
     private User user;
@@ -33,14 +32,10 @@ public class StudyTime {
     private LocalDate date;
 
     @Column(nullable = false)
-    private Time time;
+    private int seconds;
 
     @PrePersist
     public void prePersist() {
-        if (this.time == null) {
-            this.time = Time.valueOf("00:00:00"); // 기본값 설정
-        }
-
         date = LocalDate.now();
     }
 
@@ -0,0 +1,37 @@
+package com.bluestarfish.blueberry.user.entity;
+
+import jakarta.persistence.*;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import org.hibernate.annotations.OnDelete;
+import org.hibernate.annotations.OnDeleteAction;
+
+import java.time.LocalDate;
+
+// 월간 공부시간 합계, study_time 변경 시 증분 반영
+@Getter
+@Entity
+@NoArgsConstructor
+@Table(name = "study_time_monthly",
+        uniqueConstraints = {@UniqueConstraint(name = "uk_study_time_monthly_user_month", columnNames = {"user_id", "month_start"})}
+)
+public class StudyTimeMonthly {
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    private Long id;
+
+    @ManyToOne(fetch = FetchType.LAZY)
+    @JoinColumn(name = "user_id", nullable = false)
+    @OnDelete(action = OnDeleteAction.CASCADE)
+    private User user;
+
+    @Column(name = "month_start", nullable = false)
+    private LocalDate monthStart;
+
+    @Column(name = "total_seconds", nullable = false)
+    private Long totalSeconds;
+
+    public static LocalDate monthStartOf(LocalDate date) {
+        return date.withDayOfMonth(1);
+    }
+}
@@ -0,0 +1,39 @@
+package com.bluestarfish.blueberry.user.entity;
+
+import jakarta.persistence.*;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import org.hibernate.annotations.OnDelete;
+import org.hibernate.annotations.OnDeleteAction;
+
+import java.time.DayOfWeek;
+import java.time.LocalDate;
+import java.time.temporal.TemporalAdjusters;
+
+// 주간(월요일 시작) 공부시간 합계, study_time 변경 시 증분 반영
+@Getter
+@Entity
+@NoArgsConstructor
+@Table(name = "study_time_weekly",
+        uniqueConstraints = {@UniqueConstraint(name = "uk_study_time_weekly_user_week", columnNames = {"user_id", "week_start"})}
+)
+public class StudyTimeWeekly {
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    private Long id;
+
+    @ManyToOne(fetch = FetchType.LAZY)
+    @JoinColumn(name = "user_id", nullable = false)
+    @OnDelete(action = OnDeleteAction.CASCADE)
+    private User user;
+
+    @Column(name = "week_start", nullable = false)
+    private LocalDate weekStart;
+
+    @Column(name = "total_seconds", nullable = false)
+    private Long totalSeconds;
+
+    public static LocalDate weekStartOf(LocalDate date) {
+        return date.with(TemporalAdjusters.previousOrSame(DayOfWeek.MONDAY));
+    }
+}
@@ -2,6 +2,7 @@ package com.bluestarfish.blueberry.user.entity;
 
 
 import com.bluestarfish.blueberry.user.enumeration.AuthType;
+import com.fasterxml.jackson.annotation.JsonIgnoreProperties;
 import jakarta.persistence.*;
 import lombok.Builder;
 import lombok.Getter;
@@ -13,6 +14,7 @@ import java.time.LocalDateTime;
 @Getter
 @Setter
 @Entity
+@JsonIgnoreProperties({"hibernateLazyInitializer", "handler"})
 @NoArgsConstructor
 @Table(
         name = "users",
@@ -0,0 +1,68 @@
+package com.bluestarfish.blueberry.user.export;
+
+import com.bluestarfish.blueberry.common.serializer.SecondsSerializer;
+import com.bluestarfish.blueberry.exception.CustomException;
+import com.bluestarfish.blueberry.exception.ExceptionDomain;
+import lombok.Getter;
+import org.springframework.http.HttpStatus;
+
+import java.io.IOException;
+import java.io.Writer;
+import java.time.LocalDate;
+
+@Getter
+public enum StudyTimeExportFormat {
+    CSV("text/csv; charset=utf-8", "csv") {
+        @Override
+        void writeHeader(Writer writer) throws IOException {
+            writer.write("date,seconds,time\n");
+        }
+
+        @Override
+        void writeRow(Writer writer, LocalDate date, int seconds) throws IOException {
+            writer.write(date.toString());
+            writer.write(',');
+            writer.write(Integer.toString(seconds));
+            writer.write(',');
+            writer.write(SecondsSerializer.format(seconds));
+            writer.write('\n');
+        }
+    },
+    NDJSON("application/x-ndjson; charset=utf-8", "ndjson") {
+        @Override
+        void writeHeader(Writer writer) {
+        }
+
+        @Override
+        void writeRow(Writer writer, LocalDate date, int seconds) throws IOException {
+            writer.write("{\"date\":\"");
+            writer.write(date.toString());
+            writer.write("\",\"seconds\":");
+            writer.write(Integer.toString(seconds));
+            writer.write(",\"time\":\"");
+            writer.write(SecondsSerializer.format(seconds));
+            writer.write("\"}\n");
+        }
+    };
+
+    private final String contentType;
+    private final String extension;
+
+    StudyTimeExportFormat(String contentType, String extension) {
+        this.contentType = contentType;
+        this.extension = extension;
+    }
+
+    abstract void writeHeader(Writer writer) throws IOException;
+
+    abstract void writeRow(Writer writer, LocalDate date, int seconds) throws IOException;
+
+    public static StudyTimeExportFormat from(String format) {
+        for (StudyTimeExportFormat value : values()) {
+            if (value.extension.equalsIgnoreCase(format)) {
+                return value;
+            }
+        }
+        throw new CustomException("Unsupported export format: " + format, ExceptionDomain.USER, HttpStatus.BAD_REQUEST);
+    }
+}
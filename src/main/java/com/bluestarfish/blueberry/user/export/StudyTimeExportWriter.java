@@ -0,0 +1,46 @@
+package com.bluestarfish.blueberry.user.export;
+
+import java.io.BufferedWriter;
+import java.io.Closeable;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.OutputStreamWriter;
+import java.io.UncheckedIOException;
+import java.io.Writer;
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDate;
+
+// 조회한 행을 바로 응답 스트림에 쓰고 아무것도 모아두지 않으므로 기록 길이와 상관없이 메모리 사용량이 일정함
+public class StudyTimeExportWriter implements Closeable {
+    private static final int BUFFER_SIZE = 8192;
+
+    private final StudyTimeExportFormat format;
+    private final Writer writer;
+    private long rowCount;
+
+    public StudyTimeExportWriter(OutputStream outputStream, StudyTimeExportFormat format) throws IOException {
+        this.format = format;
+        this.writer = new BufferedWriter(new OutputStreamWriter(outputStream, StandardCharsets.UTF_8), BUFFER_SIZE);
+        format.writeHeader(writer);
+    }
+
+    // JDBC 행 콜백 안에서 호출되므로 unchecked 로 감쌈
+    public void write(LocalDate date, int seconds) {
+        try {
+            format.writeRow(writer, date, seconds);
+            rowCount++;
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    public long getRowCount() {
+        return rowCount;
+    }
+
+    // 응답 스트림은 서블릿 컨테이너가 닫으므로 비우기만 함
+    @Override
+    public void close() throws IOException {
+        writer.flush();
+    }
+}
@@ -0,0 +1,59 @@
+package com.bluestarfish.blueberry.user.migration;
+
+import jakarta.annotation.PostConstruct;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.annotation.DependsOn;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionTemplate;
+
+// study_time 원본으로 주간/월간 합계 테이블을 계산 (요청을 받기 전에 실행)
+// 합계 테이블이 둘 다 비어 있으면(첫 배포) 자동으로 실행, 다시 계산하려면 study-time.rollup.backfill=true 로 기동
+// 합계를 덮어쓰므로 여러 번 실행해도 결과가 같음
+@Slf4j
+@Component
+@DependsOn("studyTimeSecondsMigration")
+public class StudyTimeRollupBackfill {
+    private static final String BACKFILL_WEEKLY_SQL = "INSERT INTO study_time_weekly (user_id, week_start, total_seconds) "
+            + "SELECT user_id, DATE_SUB(date, INTERVAL WEEKDAY(date) DAY) AS week_start, SUM(seconds) "
+            + "FROM study_time GROUP BY user_id, week_start "
+            + "ON DUPLICATE KEY UPDATE total_seconds = VALUES(total_seconds)";
+    private static final String BACKFILL_MONTHLY_SQL = "INSERT INTO study_time_monthly (user_id, month_start, total_seconds) "
+            + "SELECT user_id, DATE_SUB(date, INTERVAL DAYOFMONTH(date) - 1 DAY) AS month_start, SUM(seconds) "
+            + "FROM study_time GROUP BY user_id, month_start "
+            + "ON DUPLICATE KEY UPDATE total_seconds = VALUES(total_seconds)";
+    private static final String EXISTS_ROLLUP_SQL = "SELECT EXISTS (SELECT 1 FROM study_time_weekly) "
+            + "OR EXISTS (SELECT 1 FROM study_time_monthly)";
+
+    private final JdbcTemplate jdbcTemplate;
+    private final TransactionTemplate transactionTemplate;
+    private final boolean forced;
+
+    public StudyTimeRollupBackfill(
+            JdbcTemplate jdbcTemplate,
+            TransactionTemplate transactionTemplate,
+            @Value("${study-time.rollup.backfill:false}") boolean forced
+    ) {
+        this.jdbcTemplate = jdbcTemplate;
+        this.transactionTemplate = transactionTemplate;
+        this.forced = forced;
+    }
+
+    @PostConstruct
+    public void backfill() {
+        if (!forced && hasRollups()) {
+            return;
+        }
+
+        transactionTemplate.executeWithoutResult(status -> {
+            int weekly = jdbcTemplate.update(BACKFILL_WEEKLY_SQL);
+            int monthly = jdbcTemplate.update(BACKFILL_MONTHLY_SQL);
+            log.info("공부시간 주간/월간 합계 백필 완료: weekly={}, monthly={}", weekly, monthly);
+        });
+    }
+
+    private boolean hasRollups() {
+        return Boolean.TRUE.equals(jdbcTemplate.queryForObject(EXISTS_ROLLUP_SQL, Boolean.class));
+    }
+}
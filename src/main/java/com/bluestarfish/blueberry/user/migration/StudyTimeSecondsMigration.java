@@ -0,0 +1,59 @@
+package com.bluestarfish.blueberry.user.migration;
+
+import jakarta.annotation.PostConstruct;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.context.annotation.DependsOn;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Component;
+
+// TIME 타입 공부시간 컬럼 값을 정수(초) 컬럼으로 복사 (요청을 받기 전에 실행)
+// 기존 컬럼은 이전 버전으로 되돌릴 수 있도록 남겨 두고, 삭제는 StudyTimeTimeColumnDrop 에서 명시적으로 실행
+// 초 컬럼이 아직 0 인 행만 채우므로 매 기동마다 실행해도 이미 옮긴 값은 덮어쓰지 않음
+@Slf4j
+@Component
+@DependsOn("entityManagerFactory")
+@RequiredArgsConstructor
+public class StudyTimeSecondsMigration {
+    private static final String COLUMN_NULLABLE_SQL = "SELECT is_nullable FROM information_schema.columns "
+            + "WHERE table_schema = DATABASE() AND table_name = ? AND column_name = ?";
+
+    private final JdbcTemplate jdbcTemplate;
+
+    @PostConstruct
+    public void migrate() {
+        migrate("study_time", "time", "seconds");
+        migrate("users_rooms", "goal_time", "goal_seconds");
+        migrate("users_rooms", "day_time", "day_seconds");
+    }
+
+    private void migrate(String table, String timeColumn, String secondsColumn) {
+        String timeNullable = findNullable(table, timeColumn);
+        if (timeNullable == null) { // 신규 DB 또는 기존 컬럼 삭제 완료
+            return;
+        }
+
+        if (findNullable(table, secondsColumn) == null) {
+            jdbcTemplate.execute(String.format(
+                    "ALTER TABLE %s ADD COLUMN %s INT NOT NULL DEFAULT 0", table, secondsColumn));
+        }
+
+        // 엔티티가 더 이상 기존 컬럼에 값을 넣지 않으므로 NOT NULL 을 풀어야 INSERT 가 실패하지 않음
+        if ("NO".equals(timeNullable)) {
+            jdbcTemplate.execute(String.format("ALTER TABLE %s MODIFY %s TIME NULL", table, timeColumn));
+        }
+
+        int updated = jdbcTemplate.update(String.format(
+                "UPDATE %s SET %s = TIME_TO_SEC(%s) WHERE %s = 0 AND %s IS NOT NULL",
+                table, secondsColumn, timeColumn, secondsColumn, timeColumn));
+        if (updated > 0) {
+            log.info("공부시간 컬럼 변환 완료: {}.{} -> {} ({}건)", table, timeColumn, secondsColumn, updated);
+        }
+    }
+
+    private String findNullable(String table, String column) {
+        return jdbcTemplate.queryForList(COLUMN_NULLABLE_SQL, String.class, table, column).stream()
+                .findFirst()
+                .orElse(null);
+    }
+}
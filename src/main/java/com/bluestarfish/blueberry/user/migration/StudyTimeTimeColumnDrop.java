@@ -0,0 +1,48 @@
+package com.bluestarfish.blueberry.user.migration;
+
+import jakarta.annotation.PostConstruct;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.annotation.DependsOn;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Component;
+
+// 초 컬럼으로 옮긴 뒤 남겨 둔 TIME 타입 공부시간 컬럼 삭제
+// 되돌릴 수 없으므로 이전 버전으로 돌아갈 일이 없을 때 study-time.migration.drop-time-columns=true 로 기동해 한 번만 실행
+@Slf4j
+@Component
+@DependsOn("studyTimeSecondsMigration")
+public class StudyTimeTimeColumnDrop {
+    private static final String EXISTS_COLUMN_SQL = "SELECT COUNT(*) FROM information_schema.columns "
+            + "WHERE table_schema = DATABASE() AND table_name = ? AND column_name = ?";
+
+    private final JdbcTemplate jdbcTemplate;
+    private final boolean enabled;
+
+    public StudyTimeTimeColumnDrop(
+            JdbcTemplate jdbcTemplate,
+            @Value("${study-time.migration.drop-time-columns:false}") boolean enabled
+    ) {
+        this.jdbcTemplate = jdbcTemplate;
+        this.enabled = enabled;
+    }
+
+    @PostConstruct
+    public void drop() {
+        if (!enabled) {
+            return;
+        }
+        drop("study_time", "time");
+        drop("users_rooms", "goal_time");
+        drop("users_rooms", "day_time");
+    }
+
+    private void drop(String table, String column) {
+        Integer count = jdbcTemplate.queryForObject(EXISTS_COLUMN_SQL, Integer.class, table, column);
+        if (count == null || count == 0) {
+            return;
+        }
+        jdbcTemplate.execute(String.format("ALTER TABLE %s DROP COLUMN %s", table, column));
+        log.info("기존 공부시간 컬럼 삭제: {}.{}", table, column);
+    }
+}
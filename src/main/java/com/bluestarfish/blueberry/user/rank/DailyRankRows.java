@@ -0,0 +1,49 @@
+package com.bluestarfish.blueberry.user.rank;
+
+import java.util.Arrays;
+
+// 순위 순서대로 쌓는 (userId, 공부시간 초) 원시 배열 버퍼
+public class DailyRankRows {
+    private long[] userIds;
+    private int[] seconds;
+    private int size;
+
+    public DailyRankRows(int initialCapacity) {
+        this.userIds = new long[Math.max(16, initialCapacity)];
+        this.seconds = new int[Math.max(16, initialCapacity)];
+    }
+
+    public void add(long userId, int second) {
+        if (size == userIds.length) {
+            userIds = Arrays.copyOf(userIds, size << 1);
+            seconds = Arrays.copyOf(seconds, size << 1);
+        }
+        userIds[size] = userId;
+        seconds[size] = second;
+        size++;
+    }
+
+    public int size() {
+        return size;
+    }
+
+    public boolean isEmpty() {
+        return size == 0;
+    }
+
+    public long getUserId(int index) {
+        return userIds[index];
+    }
+
+    public int getSeconds(int index) {
+        return seconds[index];
+    }
+
+    long[] userIds() {
+        return Arrays.copyOf(userIds, size);
+    }
+
+    int[] seconds() {
+        return Arrays.copyOf(seconds, size);
+    }
+}
@@ -0,0 +1,69 @@
+package com.bluestarfish.blueberry.user.rank;
+
+import com.bluestarfish.blueberry.user.dto.RankResponse;
+import lombok.Getter;
+
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+
+// 하루치 랭킹을 고정한 불변 스냅샷, 조회는 모두 O(1)
+public class DailyRankSnapshot {
+    public static final int TOP_SIZE = 10;
+
+    @Getter
+    private final LocalDate date;
+    private final int[] seconds; // 순위 순(내림차순) 공부시간
+    private final int[] ranks; // 공부시간이 같으면 같은 순위 (1, 1, 3, ...)
+    private final LongIntOpenHashMap indexes; // userId -> 순위 인덱스
+    @Getter
+    private final List<RankResponse> top;
+
+    private DailyRankSnapshot(LocalDate date, int[] seconds, int[] ranks, LongIntOpenHashMap indexes, List<RankResponse> top) {
+        this.date = date;
+        this.seconds = seconds;
+        this.ranks = ranks;
+        this.indexes = indexes;
+        this.top = top;
+    }
+
+    public static DailyRankSnapshot empty(LocalDate date) {
+        return new DailyRankSnapshot(date, new int[0], new int[0], new LongIntOpenHashMap(0), Collections.emptyList());
+    }
+
+    // rows 는 순위 순으로 정렬되어 있어야 함, nicknames 는 상위권 사용자 닉네임
+    public static DailyRankSnapshot of(LocalDate date, DailyRankRows rows, Map<Long, String> nicknames) {
+        long[] userIds = rows.userIds();
+        int[] seconds = rows.seconds();
+
+        int[] ranks = new int[userIds.length];
+        LongIntOpenHashMap indexes = new LongIntOpenHashMap(userIds.length);
+        for (int i = 0; i < userIds.length; i++) {
+            ranks[i] = (i > 0 && seconds[i] == seconds[i - 1]) ? ranks[i - 1] : i + 1;
+            indexes.put(userIds[i], i);
+        }
+
+        List<RankResponse> top = new ArrayList<>(TOP_SIZE);
+        for (int i = 0; i < Math.min(TOP_SIZE, userIds.length); i++) {
+            top.add(RankResponse.of(ranks[i], nicknames.get(userIds[i]), seconds[i]));
+        }
+
+        return new DailyRankSnapshot(date, seconds, ranks, indexes, Collections.unmodifiableList(top));
+    }
+
+    public Optional<RankResponse> findRank(Long userId, String nickname) {
+        int index = indexes.get(userId);
+        if (index < 0) {
+            return Optional.empty();
+        }
+
+        return Optional.of(RankResponse.of(ranks[index], nickname, seconds[index]));
+    }
+
+    public int size() {
+        return seconds.length;
+    }
+}
@@ -0,0 +1,79 @@
+package com.bluestarfish.blueberry.user.rank;
+
+import com.bluestarfish.blueberry.user.buffer.StudyTimeWriteBuffer;
+import com.bluestarfish.blueberry.user.entity.User;
+import com.bluestarfish.blueberry.user.repository.DailyRankRepository;
+import com.bluestarfish.blueberry.user.repository.UserRepository;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Component;
+
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.stream.Collectors;
+
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class DailyRankSnapshotManager {
+    private final DailyRankRepository dailyRankRepository;
+    private final UserRepository userRepository;
+    private final StudyTimeWriteBuffer studyTimeWriteBuffer;
+
+    private volatile DailyRankSnapshot snapshot = DailyRankSnapshot.empty(LocalDate.MIN);
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void load() {
+        refresh();
+    }
+
+    // 자정 직후 StudyTimeRolloverJob 에서 전날 랭킹을 고정
+    public void refresh() {
+        getSnapshot();
+    }
+
+    // 스케줄 실행 전(자정~스냅샷 생성 사이)에 조회가 들어오면 그 자리에서 생성
+    public DailyRankSnapshot getSnapshot() {
+        LocalDate yesterday = LocalDate.now().minusDays(1);
+        DailyRankSnapshot current = snapshot;
+        if (current.getDate().equals(yesterday)) {
+            return current;
+        }
+
+        return build(yesterday);
+    }
+
+    private synchronized DailyRankSnapshot build(LocalDate date) {
+        if (snapshot.getDate().equals(date)) {
+            return snapshot;
+        }
+
+        // 저장된 스냅샷이 있으면 그대로 사용하고, 없을 때만 study_time 에서 계산 후 저장
+        DailyRankRows rows = dailyRankRepository.findRanks(date);
+        if (rows.isEmpty()) {
+            studyTimeWriteBuffer.flush(); // 버퍼에 남은 전날 값까지 반영한 뒤 계산
+            rows = dailyRankRepository.computeRanks(date);
+            dailyRankRepository.saveRanks(date, rows);
+        }
+
+        snapshot = DailyRankSnapshot.of(date, rows, findTopNicknames(rows));
+        log.info("{} 랭킹 스냅샷 생성 완료: {}명", date, rows.size());
+
+        return snapshot;
+    }
+
+    private Map<Long, String> findTopNicknames(DailyRankRows rows) {
+        List<Long> topUserIds = new ArrayList<>(DailyRankSnapshot.TOP_SIZE);
+        for (int i = 0; i < Math.min(DailyRankSnapshot.TOP_SIZE, rows.size()); i++) {
+            topUserIds.add(rows.getUserId(i));
+        }
+
+        return userRepository.findAllById(topUserIds).stream()
+                .filter(user -> user.getNickname() != null)
+                .collect(Collectors.toMap(User::getId, User::getNickname));
+    }
+}
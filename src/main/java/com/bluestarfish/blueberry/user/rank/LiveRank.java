@@ -0,0 +1,12 @@
+package com.bluestarfish.blueberry.user.rank;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+@Getter
+@AllArgsConstructor
+public class LiveRank {
+    private final int rank;
+    private final long userId;
+    private final int seconds;
+}
@@ -0,0 +1,146 @@
+package com.bluestarfish.blueberry.user.rank;
+
+import com.bluestarfish.blueberry.user.repository.DailyRankRepository;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Component;
+
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.NavigableSet;
+import java.util.Optional;
+import java.util.TreeSet;
+import java.util.concurrent.locks.ReadWriteLock;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+
+// 오늘 공부시간 실시간 랭킹 인덱스
+// 순위(동점은 같은 순위)는 Fenwick tree, 상위 K명은 정렬 집합으로 모두 O(log n) 에 응답
+@Slf4j
+@Component
+public class LiveRankIndex {
+    private static final Comparator<LiveRank> ORDER = Comparator.comparingInt(LiveRank::getSeconds).reversed()
+            .thenComparingLong(LiveRank::getUserId);
+
+    private final DailyRankRepository dailyRankRepository;
+    private final ReadWriteLock lock = new ReentrantReadWriteLock();
+
+    private final Map<Long, LiveRank> entries = new HashMap<>();
+    private final NavigableSet<LiveRank> ordered = new TreeSet<>(ORDER);
+    private final SecondsFenwickTree counts = new SecondsFenwickTree();
+    private LocalDate date = LocalDate.MIN;
+
+    public LiveRankIndex(DailyRankRepository dailyRankRepository) {
+        this.dailyRankRepository = dailyRankRepository;
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void rebuild() {
+        LocalDate today = LocalDate.now();
+        DailyRankRows rows = dailyRankRepository.computeRanks(today);
+
+        lock.writeLock().lock();
+        try {
+            reset(today);
+            for (int i = 0; i < rows.size(); i++) {
+                put(rows.getUserId(i), rows.getSeconds(i));
+            }
+        } finally {
+            lock.writeLock().unlock();
+        }
+        log.info("오늘 실시간 랭킹 인덱스 생성 완료: {}명", rows.size());
+    }
+
+    public void update(Long userId, int seconds) {
+        LocalDate today = LocalDate.now();
+
+        lock.writeLock().lock();
+        try {
+            if (!date.equals(today)) {
+                reset(today);
+            }
+            put(userId, seconds);
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    public Optional<LiveRank> findRank(Long userId) {
+        lock.readLock().lock();
+        try {
+            LiveRank entry = isToday() ? entries.get(userId) : null;
+            if (entry == null) {
+                return Optional.empty();
+            }
+
+            return Optional.of(new LiveRank(counts.countGreaterThan(entry.getSeconds()) + 1, userId, entry.getSeconds()));
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    public List<LiveRank> getTop(int limit) {
+        lock.readLock().lock();
+        try {
+            List<LiveRank> top = new ArrayList<>(limit);
+            if (!isToday()) {
+                return top;
+            }
+
+            LiveRank previous = null;
+            for (LiveRank entry : ordered) {
+                if (top.size() == limit) {
+                    break;
+                }
+
+                // 동점자는 앞 사람과 같은 순위
+                int rank = previous != null && previous.getSeconds() == entry.getSeconds()
+                        ? previous.getRank()
+                        : top.size() + 1;
+                previous = new LiveRank(rank, entry.getUserId(), entry.getSeconds());
+                top.add(previous);
+            }
+
+            return top;
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    public int size() {
+        lock.readLock().lock();
+        try {
+            return isToday() ? counts.size() : 0;
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    private void put(long userId, int seconds) {
+        LiveRank previous = entries.get(userId);
+        if (previous != null) {
+            ordered.remove(previous);
+            counts.add(previous.getSeconds(), -1);
+        }
+
+        LiveRank entry = new LiveRank(0, userId, seconds);
+        entries.put(userId, entry);
+        ordered.add(entry);
+        counts.add(seconds, 1);
+    }
+
+    private void reset(LocalDate today) {
+        entries.clear();
+        ordered.clear();
+        counts.clear();
+        date = today;
+    }
+
+    private boolean isToday() {
+        return date.equals(LocalDate.now());
+    }
+}
@@ -0,0 +1,46 @@
+package com.bluestarfish.blueberry.user.rank;
+
+import java.util.Arrays;
+
+// userId -> 순위 인덱스 전용 open addressing(linear probing) 맵, 박싱 없이 조회
+// 생성 후에는 읽기 전용으로만 사용 (key 0 은 빈 슬롯 표시로 사용하므로 저장 불가)
+final class LongIntOpenHashMap {
+    private static final int MISSING = -1;
+
+    private final long[] keys;
+    private final int[] values;
+    private final int mask;
+
+    LongIntOpenHashMap(int expectedSize) {
+        int capacity = Integer.highestOneBit(Math.max(4, expectedSize * 2 - 1)) << 1;
+        this.keys = new long[capacity];
+        this.values = new int[capacity];
+        this.mask = capacity - 1;
+        Arrays.fill(values, MISSING);
+    }
+
+    void put(long key, int value) {
+        int slot = slot(key);
+        while (keys[slot] != 0 && keys[slot] != key) {
+            slot = (slot + 1) & mask;
+        }
+        keys[slot] = key;
+        values[slot] = value;
+    }
+
+    int get(long key) {
+        int slot = slot(key);
+        while (keys[slot] != 0) {
+            if (keys[slot] == key) {
+                return values[slot];
+            }
+            slot = (slot + 1) & mask;
+        }
+        return MISSING;
+    }
+
+    private int slot(long key) {
+        long hash = key * 0x9E3779B97F4A7C15L;
+        return (int) (hash ^ (hash >>> 32)) & mask;
+    }
+}
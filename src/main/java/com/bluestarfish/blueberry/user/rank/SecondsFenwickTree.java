@@ -0,0 +1,39 @@
+package com.bluestarfish.blueberry.user.rank;
+
+import java.util.Arrays;
+
+// 공부시간(초) 구간별 인원수 Fenwick tree, "나보다 오래 공부한 사람 수"를 O(log n) 에 계산
+final class SecondsFenwickTree {
+    static final int MAX_SECONDS = 86400;
+
+    private final int[] tree = new int[MAX_SECONDS + 2];
+    private int total;
+
+    void add(int seconds, int delta) {
+        for (int i = clamp(seconds) + 1; i < tree.length; i += i & -i) {
+            tree[i] += delta;
+        }
+        total += delta;
+    }
+
+    int countGreaterThan(int seconds) {
+        int count = 0;
+        for (int i = clamp(seconds) + 1; i > 0; i -= i & -i) {
+            count += tree[i];
+        }
+        return total - count;
+    }
+
+    int size() {
+        return total;
+    }
+
+    void clear() {
+        Arrays.fill(tree, 0);
+        total = 0;
+    }
+
+    private static int clamp(int seconds) {
+        return Math.min(Math.max(seconds, 0), MAX_SECONDS);
+    }
+}
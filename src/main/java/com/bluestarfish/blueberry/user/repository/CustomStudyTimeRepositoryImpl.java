@@ -7,7 +7,6 @@ import lombok.RequiredArgsConstructor;
 import org.springframework.stereotype.Repository;
 
 import java.time.LocalDate;
-import java.util.List;
 import java.util.Optional;
 
 @Repository
@@ -21,6 +20,7 @@ public class CustomStudyTimeRepositoryImpl implements CustomStudyTimeRepository
         QStudyTime qStudyTime = QStudyTime.studyTime;
 
         StudyTime studyTime = queryFactory.selectFrom(qStudyTime)
+                .join(qStudyTime.user).fetchJoin()
                 .where(
                         qStudyTime.date.eq(LocalDate.now()) // 객체비교? 값이아니라?
                                 .and(qStudyTime.user.id.eq(userId))
@@ -29,43 +29,4 @@ public class CustomStudyTimeRepositoryImpl implements CustomStudyTimeRepository
 
         return Optional.ofNullable(studyTime);
     }
-
-    @Override
-    public List<StudyTime> findRanksTop10Yesterday() {
-        QStudyTime qStudyTime = QStudyTime.studyTime;
-        LocalDate yesterday = LocalDate.now().minusDays(1);
-
-        return queryFactory.selectFrom(qStudyTime)
-                .where(
-                        qStudyTime.date.eq(yesterday)
-                )
-                .orderBy(qStudyTime.time.desc())
-                .limit(10)
-                .fetch();
-    }
-
-    @Override
-    public List<StudyTime> findRanksYesterday(Long userId) {
-        QStudyTime qStudyTime = QStudyTime.studyTime;
-        LocalDate yesterday = LocalDate.now().minusDays(1);
-
-        return queryFactory.selectFrom(qStudyTime)
-                .where(
-                        qStudyTime.date.eq(yesterday)
-                )
-                .orderBy(qStudyTime.time.desc())
-                .fetch();
-    }
-
-    @Override
-    public List<StudyTime> findStudyTimesBetweenDates(Long userId, LocalDate startDate, LocalDate endDate) {
-        QStudyTime qStudyTime = QStudyTime.studyTime;
-
-        return queryFactory.selectFrom(qStudyTime)
-                .where(qStudyTime.user.id.eq(userId)
-                        .and(qStudyTime.date.between(startDate, endDate)))
-                .fetch();
-    }
-
-
 }
@@ -1,5 +1,6 @@
 package com.bluestarfish.blueberry.user.repository;
 
+import com.bluestarfish.blueberry.common.search.FullTextExpressions;
 import com.bluestarfish.blueberry.notification.entity.QNotification;
 import com.bluestarfish.blueberry.notification.enumeration.NotiStatus;
 import com.bluestarfish.blueberry.notification.enumeration.NotiType;
@@ -11,7 +12,6 @@ import com.querydsl.jpa.impl.JPAQueryFactory;
 import lombok.RequiredArgsConstructor;
 import org.springframework.stereotype.Repository;
 
-import java.sql.Time;
 import java.time.LocalDate;
 import java.util.List;
 
@@ -33,7 +33,7 @@ public class CustomUserRepositoryImpl implements CustomUserRepository {
                         qUser.id,
                         qUser.profileImage,
                         qUser.nickname,
-                        qStudyTime.time.coalesce(Time.valueOf("00:00:00")),
+                        qStudyTime.seconds.longValue().coalesce(0L),
                         qNotification.id.isNotNull()
                 ))
                 .from(qUser)
@@ -51,7 +51,7 @@ public class CustomUserRepositoryImpl implements CustomUserRepository {
                                                 .and(qNotification.notiStatus.eq(NotiStatus.ACCEPTED))
                                 )
                 )
-                .where(qUser.nickname.contains(keyword))
+                .where(FullTextExpressions.matches(keyword, qUser.nickname))
                 .fetch();
     }
 }
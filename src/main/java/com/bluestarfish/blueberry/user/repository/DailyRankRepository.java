@@ -0,0 +1,76 @@
+package com.bluestarfish.blueberry.user.repository;
+
+import com.bluestarfish.blueberry.user.rank.DailyRankRows;
+import lombok.RequiredArgsConstructor;
+import org.springframework.jdbc.core.BatchPreparedStatementSetter;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Repository;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.sql.Date;
+import java.sql.PreparedStatement;
+import java.sql.SQLException;
+import java.time.LocalDate;
+
+// 랭킹 스냅샷은 수십만~수백만 행을 다루므로 엔티티 대신 JDBC 로 원시 배열에 바로 적재
+@Repository
+@RequiredArgsConstructor
+public class DailyRankRepository {
+    private static final int BATCH_SIZE = 1000;
+
+    private static final String SELECT_STUDY_TIMES_SQL = "SELECT user_id, seconds FROM study_time "
+            + "WHERE date = ? AND seconds > 0 ORDER BY seconds DESC, id";
+    private static final String SELECT_DAILY_RANKS_SQL = "SELECT user_id, seconds FROM daily_rank "
+            + "WHERE rank_date = ? ORDER BY ranking";
+    private static final String COUNT_DAILY_RANKS_SQL = "SELECT COUNT(*) FROM daily_rank WHERE rank_date = ?";
+    private static final String DELETE_DAILY_RANKS_SQL = "DELETE FROM daily_rank WHERE rank_date = ?";
+    private static final String INSERT_DAILY_RANK_SQL = "INSERT INTO daily_rank (rank_date, ranking, user_id, seconds) VALUES (?, ?, ?, ?)";
+
+    private final JdbcTemplate jdbcTemplate;
+
+    @Transactional(readOnly = true)
+    public DailyRankRows computeRanks(LocalDate date) {
+        return query(SELECT_STUDY_TIMES_SQL, date, 1024);
+    }
+
+    @Transactional(readOnly = true)
+    public DailyRankRows findRanks(LocalDate date) {
+        Integer count = jdbcTemplate.queryForObject(COUNT_DAILY_RANKS_SQL, Integer.class, Date.valueOf(date));
+        return query(SELECT_DAILY_RANKS_SQL, date, count == null ? 0 : count);
+    }
+
+    @Transactional
+    public void saveRanks(LocalDate date, DailyRankRows rows) {
+        jdbcTemplate.update(DELETE_DAILY_RANKS_SQL, Date.valueOf(date));
+
+        for (int offset = 0; offset < rows.size(); offset += BATCH_SIZE) {
+            int from = offset;
+            int batchSize = Math.min(BATCH_SIZE, rows.size() - from);
+
+            jdbcTemplate.batchUpdate(INSERT_DAILY_RANK_SQL, new BatchPreparedStatementSetter() {
+                @Override
+                public void setValues(PreparedStatement ps, int i) throws SQLException {
+                    int index = from + i;
+                    ps.setDate(1, Date.valueOf(date));
+                    ps.setInt(2, index + 1);
+                    ps.setLong(3, rows.getUserId(index));
+                    ps.setInt(4, rows.getSeconds(index));
+                }
+
+                @Override
+                public int getBatchSize() {
+                    return batchSize;
+                }
+            });
+        }
+    }
+
+    private DailyRankRows query(String sql, LocalDate date, int expectedSize) {
+        DailyRankRows rows = new DailyRankRows(expectedSize);
+        jdbcTemplate.query(sql, rs -> {
+            rows.add(rs.getLong("user_id"), rs.getInt("seconds"));
+        }, Date.valueOf(date));
+
+        return rows;
+    }
+}
@@ -0,0 +1,92 @@
+package com.bluestarfish.blueberry.user.repository;
+
+import com.bluestarfish.blueberry.user.entity.StudyTimeMonthly;
+import com.bluestarfish.blueberry.user.entity.StudyTimeWeekly;
+import lombok.RequiredArgsConstructor;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Repository;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.sql.Date;
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+
+// 쓰기 버퍼에 모인 공부시간 반영, 날짜 전환용 빈 기록 생성 등 대량 쓰기를 JDBC 로 처리
+@Repository
+@RequiredArgsConstructor
+public class StudyTimeBatchRepository {
+    private static final String UPSERT_STUDY_TIME_SQL = "INSERT INTO study_time (user_id, date, seconds) VALUES (?, ?, ?) "
+            + "ON DUPLICATE KEY UPDATE seconds = VALUES(seconds)";
+    private static final String ADD_WEEKLY_SECONDS_SQL = "INSERT INTO study_time_weekly (user_id, week_start, total_seconds) VALUES (?, ?, ?) "
+            + "ON DUPLICATE KEY UPDATE total_seconds = total_seconds + VALUES(total_seconds)";
+    private static final String ADD_MONTHLY_SECONDS_SQL = "INSERT INTO study_time_monthly (user_id, month_start, total_seconds) VALUES (?, ?, ?) "
+            + "ON DUPLICATE KEY UPDATE total_seconds = total_seconds + VALUES(total_seconds)";
+
+    private static final int INSERT_CHUNK_SIZE = 500;
+    private static final String SELECT_ACTIVE_USER_IDS_SQL = "SELECT DISTINCT st.user_id FROM study_time st "
+            + "JOIN users u ON u.id = st.user_id WHERE st.date >= ? AND u.deleted_at IS NULL";
+
+    private final JdbcTemplate jdbcTemplate;
+
+    // 하루치 값 덮어쓰기와 주간/월간 합계 증분을 한 트랜잭션으로 반영 (호출한 쪽 트랜잭션과 분리)
+    @Transactional(propagation = Propagation.REQUIRES_NEW)
+    public void saveAll(List<StudyTimeChange> changes) {
+        jdbcTemplate.batchUpdate(UPSERT_STUDY_TIME_SQL, changes, changes.size(), (ps, change) -> {
+            ps.setLong(1, change.getUserId());
+            ps.setDate(2, Date.valueOf(change.getDate()));
+            ps.setInt(3, change.getSeconds());
+        });
+
+        List<StudyTimeChange> deltas = changes.stream()
+                .filter(change -> change.getDeltaSeconds() != 0)
+                .toList();
+        if (deltas.isEmpty()) {
+            return;
+        }
+
+        jdbcTemplate.batchUpdate(ADD_WEEKLY_SECONDS_SQL, deltas, deltas.size(), (ps, change) -> {
+            ps.setLong(1, change.getUserId());
+            ps.setDate(2, Date.valueOf(change.getWeekStart()));
+            ps.setLong(3, change.getDeltaSeconds());
+        });
+        jdbcTemplate.batchUpdate(ADD_MONTHLY_SECONDS_SQL, deltas, deltas.size(), (ps, change) -> {
+            ps.setLong(1, change.getUserId());
+            ps.setDate(2, Date.valueOf(change.getMonthStart()));
+            ps.setLong(3, change.getDeltaSeconds());
+        });
+    }
+
+    public List<Long> findActiveUserIdsSince(LocalDate since) {
+        return jdbcTemplate.queryForList(SELECT_ACTIVE_USER_IDS_SQL, Long.class, Date.valueOf(since));
+    }
+
+    // date 의 빈 기록(0초)과 그 주/월 합계 행을 미리 생성, 이미 있으면 그대로 둠
+    // 잠금 시간이 길어지지 않도록 여러 행 INSERT 를 청크 단위로 나눠 각각 커밋
+    public void createEmptyRows(LocalDate date, List<Long> userIds) {
+        for (int from = 0; from < userIds.size(); from += INSERT_CHUNK_SIZE) {
+            List<Long> chunk = userIds.subList(from, Math.min(from + INSERT_CHUNK_SIZE, userIds.size()));
+
+            insertChunk("INSERT INTO study_time (user_id, date, seconds) VALUES ",
+                    " ON DUPLICATE KEY UPDATE user_id = user_id", chunk, date);
+            insertChunk("INSERT INTO study_time_weekly (user_id, week_start, total_seconds) VALUES ",
+                    " ON DUPLICATE KEY UPDATE total_seconds = total_seconds", chunk, StudyTimeWeekly.weekStartOf(date));
+            insertChunk("INSERT INTO study_time_monthly (user_id, month_start, total_seconds) VALUES ",
+                    " ON DUPLICATE KEY UPDATE total_seconds = total_seconds", chunk, StudyTimeMonthly.monthStartOf(date));
+        }
+    }
+
+    private void insertChunk(String insert, String onDuplicate, List<Long> userIds, LocalDate date) {
+        String values = String.join(", ", Collections.nCopies(userIds.size(), "(?, ?, 0)"));
+
+        List<Object> args = new ArrayList<>(userIds.size() * 2);
+        for (Long userId : userIds) {
+            args.add(userId);
+            args.add(Date.valueOf(date));
+        }
+
+        jdbcTemplate.update(insert + values + onDuplicate, args.toArray());
+    }
+}
@@ -0,0 +1,26 @@
+package com.bluestarfish.blueberry.user.repository;
+
+import com.bluestarfish.blueberry.user.entity.StudyTimeMonthly;
+import com.bluestarfish.blueberry.user.entity.StudyTimeWeekly;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+import java.time.LocalDate;
+
+// 하루치 공부시간 변경분 (마지막으로 반영된 값 대비 증감 포함)
+@Getter
+@AllArgsConstructor
+public class StudyTimeChange {
+    private final Long userId;
+    private final LocalDate date;
+    private final int seconds;
+    private final long deltaSeconds;
+
+    public LocalDate getWeekStart() {
+        return StudyTimeWeekly.weekStartOf(date);
+    }
+
+    public LocalDate getMonthStart() {
+        return StudyTimeMonthly.monthStartOf(date);
+    }
+}
@@ -0,0 +1,30 @@
+package com.bluestarfish.blueberry.user.repository;
+
+import lombok.RequiredArgsConstructor;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.RowCallbackHandler;
+import org.springframework.stereotype.Repository;
+
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.time.LocalDate;
+import java.util.function.ObjIntConsumer;
+
+// 전체 기록 내보내기는 List 로 모으지 않고 한 행씩 흘려보냄
+@Repository
+@RequiredArgsConstructor
+public class StudyTimeExportRepository {
+    private static final String SELECT_STUDY_TIMES_SQL = "SELECT date, seconds FROM study_time WHERE user_id = ? ORDER BY date";
+
+    private final JdbcTemplate jdbcTemplate;
+
+    public void forEachByUserId(Long userId, ObjIntConsumer<LocalDate> consumer) {
+        jdbcTemplate.query(connection -> {
+            PreparedStatement ps = connection.prepareStatement(SELECT_STUDY_TIMES_SQL, ResultSet.TYPE_FORWARD_ONLY, ResultSet.CONCUR_READ_ONLY);
+            // MySQL 드라이버는 forward-only + Integer.MIN_VALUE 일 때 결과 전체를 메모리에 올리지 않고 한 행씩 읽음
+            ps.setFetchSize(Integer.MIN_VALUE);
+            ps.setLong(1, userId);
+            return ps;
+        }, (RowCallbackHandler) rs -> consumer.accept(rs.getDate(1).toLocalDate(), rs.getInt(2)));
+    }
+}
@@ -2,11 +2,21 @@ package com.bluestarfish.blueberry.user.repository;
 
 import com.bluestarfish.blueberry.user.entity.StudyTime;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
+import java.time.LocalDate;
 import java.util.Optional;
 
 @Repository
 public interface StudyTimeRepository extends JpaRepository<StudyTime, Long>, CustomStudyTimeRepository {
     Optional<StudyTime> findByUserId(Long userId);
+
+    // 해당 날짜 기록이 없을 때만 생성 ((user_id, date) 유니크 제약 기준, 이미 있으면 그대로 둠)
+    @Modifying
+    @Query(value = "INSERT INTO study_time (user_id, date, seconds) VALUES (:userId, :date, 0) "
+            + "ON DUPLICATE KEY UPDATE user_id = user_id", nativeQuery = true)
+    void insertIfAbsent(@Param("userId") Long userId, @Param("date") LocalDate date);
 }
@@ -0,0 +1,28 @@
+package com.bluestarfish.blueberry.user.repository;
+
+import com.bluestarfish.blueberry.user.entity.StudyTimeWeekly;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+import java.time.LocalDate;
+import java.util.List;
+
+@Repository
+public interface StudyTimeWeeklyRepository extends JpaRepository<StudyTimeWeekly, Long> {
+
+    List<StudyTimeWeekly> findByUserIdAndWeekStartBetween(Long userId, LocalDate from, LocalDate to);
+
+    // 해당 주 합계에 변화량만 더함 (첫 기록이면 생성)
+    @Modifying
+    @Query(value = "INSERT INTO study_time_weekly (user_id, week_start, total_seconds) "
+            + "VALUES (:userId, :weekStart, :deltaSeconds) "
+            + "ON DUPLICATE KEY UPDATE total_seconds = total_seconds + VALUES(total_seconds)", nativeQuery = true)
+    void addSeconds(
+            @Param("userId") Long userId,
+            @Param("weekStart") LocalDate weekStart,
+            @Param("deltaSeconds") long deltaSeconds
+    );
+}
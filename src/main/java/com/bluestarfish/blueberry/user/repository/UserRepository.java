@@ -12,6 +12,8 @@ public interface UserRepository extends JpaRepository<User, Long>, CustomUserRep
 
     Optional<User> findByIdAndDeletedAtIsNull(Long id);
 
+    boolean existsByIdAndDeletedAtIsNull(Long id);
+
     Optional<User> findByNicknameAndDeletedAtIsNull(String nickname);
 
     Optional<User> findByEmailAndDeletedAtIsNull(String Email);
@@ -0,0 +1,56 @@
+package com.bluestarfish.blueberry.user.rollover;
+
+import com.bluestarfish.blueberry.user.buffer.StudyTimeWriteBuffer;
+import com.bluestarfish.blueberry.user.rank.DailyRankSnapshotManager;
+import com.bluestarfish.blueberry.user.rank.LiveRankIndex;
+import com.bluestarfish.blueberry.user.repository.StudyTimeBatchRepository;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.time.LocalDate;
+import java.util.List;
+
+// 자정에 몰리는 작업(다음 날 기록 생성, 전날 랭킹 고정)을 자정 전후로 나눠 미리 처리
+@Slf4j
+@Component
+public class StudyTimeRolloverJob {
+    private final StudyTimeBatchRepository studyTimeBatchRepository;
+    private final StudyTimeWriteBuffer studyTimeWriteBuffer;
+    private final DailyRankSnapshotManager dailyRankSnapshotManager;
+    private final LiveRankIndex liveRankIndex;
+    private final int activeDays;
+
+    public StudyTimeRolloverJob(
+            StudyTimeBatchRepository studyTimeBatchRepository,
+            StudyTimeWriteBuffer studyTimeWriteBuffer,
+            DailyRankSnapshotManager dailyRankSnapshotManager,
+            LiveRankIndex liveRankIndex,
+            @Value("${study-time.rollover.active-days:7}") int activeDays
+    ) {
+        this.studyTimeBatchRepository = studyTimeBatchRepository;
+        this.studyTimeWriteBuffer = studyTimeWriteBuffer;
+        this.dailyRankSnapshotManager = dailyRankSnapshotManager;
+        this.liveRankIndex = liveRankIndex;
+        this.activeDays = activeDays;
+    }
+
+    // 자정 전: 최근 활동한 유저의 다음 날 기록을 미리 만들어 자정 직후 getStudyTime 의 INSERT 폭주를 없앰
+    @Scheduled(cron = "${study-time.rollover.prepare-cron:0 55 23 * * *}")
+    public void prepareNextDay() {
+        LocalDate tomorrow = LocalDate.now().plusDays(1);
+        List<Long> userIds = studyTimeBatchRepository.findActiveUserIdsSince(tomorrow.minusDays(activeDays));
+
+        studyTimeBatchRepository.createEmptyRows(tomorrow, userIds);
+        log.info("{} 공부시간 기록 미리 생성 완료: {}명", tomorrow, userIds.size());
+    }
+
+    // 자정 직후: 전날 값을 모두 반영한 뒤 전날 랭킹을 고정하고 오늘 실시간 랭킹을 새로 시작
+    @Scheduled(cron = "${study-time.rollover.after-midnight-cron:30 0 0 * * *}")
+    public void rollOver() {
+        studyTimeWriteBuffer.flush();
+        dailyRankSnapshotManager.refresh();
+        liveRankIndex.rebuild();
+    }
+}
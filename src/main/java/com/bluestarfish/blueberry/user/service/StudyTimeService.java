@@ -1,8 +1,11 @@
 package com.bluestarfish.blueberry.user.service;
 
 import com.bluestarfish.blueberry.user.dto.ChartDataResponse;
+import java.time.LocalDate;
 import java.util.List;
 
 public interface StudyTimeService {
     List<ChartDataResponse> getChartData(Long userId);
+
+    void applyDelta(Long userId, LocalDate date, long deltaSeconds);
 }
@@ -1,50 +1,61 @@
 package com.bluestarfish.blueberry.user.service;
 
-import com.bluestarfish.blueberry.exception.CustomException;
-import com.bluestarfish.blueberry.exception.ExceptionDomain;
 import com.bluestarfish.blueberry.user.dto.ChartDataResponse;
-import com.bluestarfish.blueberry.user.entity.StudyTime;
-import com.bluestarfish.blueberry.user.repository.StudyTimeRepository;
-import java.sql.Time;
+import com.bluestarfish.blueberry.user.entity.StudyTimeMonthly;
+import com.bluestarfish.blueberry.user.entity.StudyTimeWeekly;
+import com.bluestarfish.blueberry.user.repository.StudyTimeMonthlyRepository;
+import com.bluestarfish.blueberry.user.repository.StudyTimeWeeklyRepository;
 import java.time.LocalDate;
 import java.util.ArrayList;
 import java.util.List;
+import java.util.Map;
+import java.util.stream.Collectors;
 import lombok.RequiredArgsConstructor;
-import org.springframework.http.HttpStatus;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
 
 @Service
 @RequiredArgsConstructor
 public class StudyTimeServiceImpl implements StudyTimeService {
-    private final StudyTimeRepository studyTimeRepository;
+    private static final int WEEKS = 7;
+    private static final int MONTHS = 12;
+
+    private final StudyTimeWeeklyRepository studyTimeWeeklyRepository;
+    private final StudyTimeMonthlyRepository studyTimeMonthlyRepository;
 
     @Override
+    @Transactional(readOnly = true)
     public List<ChartDataResponse> getChartData(Long userId) {
-        List<ChartDataResponse> weeklyData = getWeeklyStudyTime(userId);
-        weeklyData.addAll(getMonthlyStudyTime(userId));
+        LocalDate today = LocalDate.now();
+
+        List<ChartDataResponse> weeklyData = getWeeklyStudyTime(userId, StudyTimeWeekly.weekStartOf(today));
+        weeklyData.addAll(getMonthlyStudyTime(userId, StudyTimeMonthly.monthStartOf(today)));
         return weeklyData;
     }
 
-    private List<ChartDataResponse> getWeeklyStudyTime(Long userId) {
-        List<ChartDataResponse> chartDataResponses = new ArrayList<>();
+    // 주간/월간 합계에 하루치 변화량 반영 (호출한 쪽 트랜잭션에 참여)
+    @Override
+    @Transactional
+    public void applyDelta(Long userId, LocalDate date, long deltaSeconds) {
+        studyTimeWeeklyRepository.addSeconds(userId, StudyTimeWeekly.weekStartOf(date), deltaSeconds);
+        studyTimeMonthlyRepository.addSeconds(userId, StudyTimeMonthly.monthStartOf(date), deltaSeconds);
+    }
 
-        // 최근 7주에 대한 데이터
-        for(int i=0; i<7; i++) {
-            LocalDate endDate = LocalDate.now().minusWeeks(i);
-            LocalDate startDate = endDate.minusWeeks(1);
+    private List<ChartDataResponse> getWeeklyStudyTime(Long userId, LocalDate thisWeek) {
+        List<ChartDataResponse> chartDataResponses = new ArrayList<>();
 
-            // QueryDSL을 사용하여 데이터 조회
-            List<StudyTime> studyTimes = studyTimeRepository.findStudyTimesBetweenDates(userId, startDate, endDate);
-            if(studyTimes.isEmpty()) {
-                throw new CustomException("No Study Time Data for User. userId: " + userId, ExceptionDomain.USER, HttpStatus.NOT_FOUND);
-            }
+        // 최근 7주에 대한 데이터 (월요일 시작 달력 주 단위, 이번 주 포함), 기록이 없는 주는 0
+        Map<LocalDate, Long> totals = studyTimeWeeklyRepository
+                .findByUserIdAndWeekStartBetween(userId, thisWeek.minusWeeks(WEEKS - 1), thisWeek).stream()
+                .collect(Collectors.toMap(StudyTimeWeekly::getWeekStart, StudyTimeWeekly::getTotalSeconds));
 
-            Time totalTime = calculateTotalTime(studyTimes);
+        for (int i = 0; i < WEEKS; i++) {
+            long totalSeconds = totals.getOrDefault(thisWeek.minusWeeks(i), 0L);
 
             ChartDataResponse response = ChartDataResponse.builder()
                     .type("weekly")
-                    .no(7 - i)
-                    .time(totalTime)
+                    .no(WEEKS - i)
+                    .time(truncateToMinutes(totalSeconds))
                     .build();
 
             chartDataResponses.add(response);
@@ -52,26 +63,21 @@ public class StudyTimeServiceImpl implements StudyTimeService {
         return chartDataResponses;
     }
 
-    private List<ChartDataResponse> getMonthlyStudyTime(Long userId) {
+    private List<ChartDataResponse> getMonthlyStudyTime(Long userId, LocalDate thisMonth) {
         List<ChartDataResponse> chartDataResponses = new ArrayList<>();
 
-        // 최근 12개월에 대한 데이터
-        for (int i = 0; i < 12; i++) {
-            LocalDate endDate = LocalDate.now().minusMonths(i);
-            LocalDate startDate = endDate.minusMonths(1);
-
-            // QueryDSL을 사용하여 데이터 조회
-            List<StudyTime> studyTimes = studyTimeRepository.findStudyTimesBetweenDates(userId, startDate, endDate);
-            if(studyTimes.isEmpty()) {
-                throw new CustomException("No User Existed. userId : " + userId, ExceptionDomain.USER, HttpStatus.NOT_FOUND);
-            }
+        // 최근 12개월에 대한 데이터 (1일 시작 달력 월 단위, 이번 달 포함), 기록이 없는 달은 0
+        Map<LocalDate, Long> totals = studyTimeMonthlyRepository
+                .findByUserIdAndMonthStartBetween(userId, thisMonth.minusMonths(MONTHS - 1), thisMonth).stream()
+                .collect(Collectors.toMap(StudyTimeMonthly::getMonthStart, StudyTimeMonthly::getTotalSeconds));
 
-            Time totalTime = calculateTotalTime(studyTimes);
+        for (int i = 0; i < MONTHS; i++) {
+            long totalSeconds = totals.getOrDefault(thisMonth.minusMonths(i), 0L);
 
             ChartDataResponse response = ChartDataResponse.builder()
                     .type("monthly")
-                    .no(12 - i)  // 최근 달부터 번호 매김
-                    .time(totalTime)
+                    .no(MONTHS - i)  // 최근 달부터 번호 매김
+                    .time(truncateToMinutes(totalSeconds))
                     .build();
 
             chartDataResponses.add(response);
@@ -80,18 +86,8 @@ public class StudyTimeServiceImpl implements StudyTimeService {
         return chartDataResponses;
     }
 
-    private Time calculateTotalTime(List<StudyTime> studyTimes) {
-        long totalMinutes = 0;
-        for(StudyTime studyTime : studyTimes) {
-            totalMinutes += studyTime.getTime().toLocalTime().getHour() * 60
-                    + studyTime.getTime().toLocalTime().getMinute();
-        }
-        return convertMinutesToTime(totalMinutes);
-    }
-
-    private Time convertMinutesToTime(long totalMinutes) {
-        int hours = (int) totalMinutes / 60;
-        int minutes = (int) totalMinutes % 60;
-        return Time.valueOf(String.format("%02d:%02d:00", hours, minutes));
+    // 차트는 분 단위까지만 표시
+    private long truncateToMinutes(long totalSeconds) {
+        return totalSeconds - totalSeconds % 60;
     }
 }
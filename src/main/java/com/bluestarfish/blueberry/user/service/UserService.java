@@ -1,24 +1,26 @@
 package com.bluestarfish.blueberry.user.service;
 
 import com.bluestarfish.blueberry.user.dto.*;
+import com.bluestarfish.blueberry.user.export.StudyTimeExportFormat;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
 
 import java.io.IOException;
 import java.util.List;
 
 public interface UserService {
-    UserResponse getUserByToken(String accessToken);
+    UserResponse getLoginUser(Long loginId);
 
     void join(JoinRequest joinRequest);
 
     UserResponse findById(Long id);
 
-    void update(Long id, UserUpdateRequest userUpdateRequest, String accessToken) throws IOException;
+    void update(Long id, UserUpdateRequest userUpdateRequest, Long loginId) throws IOException;
 
-    void withdraw(Long id, String accessToken);
+    void withdraw(Long id, Long loginId);
 
     void validateNickname(String nickname);
 
-    void resetPassword(PasswordResetRequest passwordResetRequest, String accessToken);
+    void resetPassword(PasswordResetRequest passwordResetRequest, Long loginId);
 
     StudyTimeResponse getStudyTime(Long userId);
 
@@ -26,5 +28,9 @@ public interface UserService {
 
     List<RankResponse> getRanks(Long userId);
 
-    List<FoundUserResponse> searchUsers(String accessToken, String keyword);
+    List<RankResponse> getLiveRanks(Long userId);
+
+    List<FoundUserResponse> searchUsers(Long loginId, String keyword);
+
+    StreamingResponseBody exportStudyTimes(Long userId, StudyTimeExportFormat format, Long loginId);
 }
@@ -5,28 +5,41 @@ import com.bluestarfish.blueberry.auth.repository.AuthCodeRepository;
 import com.bluestarfish.blueberry.common.s3.S3Uploader;
 import com.bluestarfish.blueberry.exception.CustomException;
 import com.bluestarfish.blueberry.exception.ExceptionDomain;
-import com.bluestarfish.blueberry.jwt.JWTUtils;
+import com.bluestarfish.blueberry.room.leaderboard.RoomStudyTimeAggregator;
+import com.bluestarfish.blueberry.user.buffer.StudyTimeWriteBuffer;
+import com.bluestarfish.blueberry.user.cache.UserStatusCache;
 import com.bluestarfish.blueberry.user.dto.*;
 import com.bluestarfish.blueberry.user.entity.StudyTime;
+import com.bluestarfish.blueberry.user.export.StudyTimeExportFormat;
+import com.bluestarfish.blueberry.user.export.StudyTimeExportWriter;
 import com.bluestarfish.blueberry.user.entity.User;
+import com.bluestarfish.blueberry.user.rank.DailyRankSnapshot;
+import com.bluestarfish.blueberry.user.rank.DailyRankSnapshotManager;
+import com.bluestarfish.blueberry.user.rank.LiveRank;
+import com.bluestarfish.blueberry.user.rank.LiveRankIndex;
+import com.bluestarfish.blueberry.user.repository.StudyTimeExportRepository;
 import com.bluestarfish.blueberry.user.repository.StudyTimeRepository;
 import com.bluestarfish.blueberry.user.repository.UserRepository;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.beans.factory.annotation.Value;
+import org.springframework.dao.DataIntegrityViolationException;
 import org.springframework.http.HttpStatus;
 import org.springframework.security.crypto.password.PasswordEncoder;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Propagation;
 import org.springframework.transaction.annotation.Transactional;
 import org.springframework.web.multipart.MultipartFile;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
 
 import java.io.IOException;
-import java.net.URLDecoder;
-import java.nio.charset.StandardCharsets;
+import java.time.LocalDate;
 import java.time.LocalDateTime;
+import java.util.ArrayList;
 import java.util.List;
+import java.util.Map;
 import java.util.Optional;
-import java.util.concurrent.atomic.AtomicInteger;
+import java.util.OptionalInt;
 import java.util.stream.Collectors;
 
 @Slf4j
@@ -34,20 +47,27 @@ import java.util.stream.Collectors;
 @RequiredArgsConstructor
 @Transactional
 public class UserServiceImpl implements UserService {
+    private static final int SECONDS_PER_DAY = 86400;
+
     @Value("${user.image.storage}")
     private String userImageStorage;
 
     private final PasswordEncoder passwordEncoder;
     private final UserRepository userRepository;
+    private final UserStatusCache userStatusCache;
     private final AuthCodeRepository authCodeRepository;
     private final StudyTimeRepository studyTimeRepository;
+    private final StudyTimeExportRepository studyTimeExportRepository;
+    private final StudyTimeService studyTimeService;
+    private final DailyRankSnapshotManager dailyRankSnapshotManager;
+    private final LiveRankIndex liveRankIndex;
+    private final StudyTimeWriteBuffer studyTimeWriteBuffer;
+    private final RoomStudyTimeAggregator roomStudyTimeAggregator;
     private final S3Uploader s3Uploader;
-    private final JWTUtils jwtUtils;
 
     @Override
-    public UserResponse getUserByToken(String accessToken) {
-        Long userId = jwtUtils.getId(URLDecoder.decode(accessToken, StandardCharsets.UTF_8));
-        return UserResponse.from(userRepository.findById(userId).orElseThrow(() -> new CustomException("", ExceptionDomain.USER, HttpStatus.NOT_FOUND)));
+    public UserResponse getLoginUser(Long loginId) {
+        return UserResponse.from(userRepository.findById(loginId).orElseThrow(() -> new CustomException("", ExceptionDomain.USER, HttpStatus.NOT_FOUND)));
     }
 
     @Override
@@ -94,15 +114,14 @@ public class UserServiceImpl implements UserService {
     public void update(
             Long id,
             UserUpdateRequest userUpdateRequest,
-            String accessToken
+            Long loginId
     ) throws IOException {
 
         User user = userRepository.findByIdAndDeletedAtIsNull(id).orElseThrow(
                 () -> new CustomException("A user with " + id + " not found", ExceptionDomain.USER, HttpStatus.NOT_FOUND)
         );
 
-        Long tokenId = jwtUtils.getId(URLDecoder.decode(accessToken, StandardCharsets.UTF_8));
-        if (!tokenId.equals(user.getId())) {
+        if (!loginId.equals(user.getId())) {
             throw new CustomException("Not match request ID and login ID", ExceptionDomain.USER, HttpStatus.UNAUTHORIZED);
         }
 
@@ -136,18 +155,18 @@ public class UserServiceImpl implements UserService {
     @Override
     public void withdraw(
             Long id,
-            String accessToken
+            Long loginId
     ) {
         User user = userRepository.findByIdAndDeletedAtIsNull(id)
                 .orElseThrow(
                         () -> new CustomException("A user with " + id + " not found", ExceptionDomain.USER, HttpStatus.NOT_FOUND)
                 );
-        Long tokenId = jwtUtils.getId(URLDecoder.decode(accessToken, StandardCharsets.UTF_8));
-        if (!tokenId.equals(user.getId())) {
+        if (!loginId.equals(user.getId())) {
             throw new CustomException("Not match request ID and login ID", ExceptionDomain.USER, HttpStatus.UNAUTHORIZED);
         }
 
         user.setDeletedAt(LocalDateTime.now());
+        userStatusCache.evict(id);
     }
 
     @Override
@@ -160,7 +179,7 @@ public class UserServiceImpl implements UserService {
 
     // FIXME: 메일인증 되었는지 확인하는 로직 추가
     @Override
-    public void resetPassword(PasswordResetRequest passwordResetRequest, String accessToken) {
+    public void resetPassword(PasswordResetRequest passwordResetRequest, Long loginId) {
         User user = userRepository.findByEmailAndDeletedAtIsNull(passwordResetRequest.getEmail())
                 .orElseThrow(
                         () -> new CustomException(
@@ -169,8 +188,7 @@ public class UserServiceImpl implements UserService {
                                 HttpStatus.NOT_FOUND
                         )
                 );
-        Long tokenId = jwtUtils.getId(URLDecoder.decode(accessToken, StandardCharsets.UTF_8));
-        if (!tokenId.equals(user.getId())) {
+        if (!loginId.equals(user.getId())) {
             throw new CustomException("Not match request ID and login ID", ExceptionDomain.USER, HttpStatus.UNAUTHORIZED);
         }
 
@@ -179,79 +197,127 @@ public class UserServiceImpl implements UserService {
 
     @Override
     public StudyTimeResponse getStudyTime(Long userId) {
+        // 대부분은 오늘 기록이 이미 있으므로 유저까지 함께 가져오는 쿼리 한 번으로 끝남
+        StudyTime studyTime = studyTimeRepository.findByUserIdAndToday(userId)
+                .orElseGet(() -> createTodayStudyTime(userId));
+        validateActiveUser(studyTime.getUser(), userId);
+
+        StudyTimeResponse response = StudyTimeResponse.from(studyTime);
+        // 아직 DB 에 반영되지 않은 최신 값이 있으면 그 값으로 응답
+        studyTimeWriteBuffer.find(userId, studyTime.getDate()).ifPresent(response::setTime);
+        return response;
+    }
 
-        User user = userRepository.findByIdAndDeletedAtIsNull(userId).orElseThrow(
+    // 그날 첫 요청이 동시에 몰려도 upsert 라 유니크 제약 충돌 없이 한 행만 생김
+    private StudyTime createTodayStudyTime(Long userId) {
+        userRepository.findByIdAndDeletedAtIsNull(userId).orElseThrow(
                 () -> new CustomException("A user with " + userId + " not found", ExceptionDomain.USER, HttpStatus.NOT_FOUND)
         );
 
-        Optional<StudyTime> studyTime = studyTimeRepository.findByUserIdAndToday(user.getId());
-
-        if (studyTime.isPresent()) {
-            return StudyTimeResponse.from(studyTime.get());
+        LocalDate today = LocalDate.now();
+        try {
+            studyTimeRepository.insertIfAbsent(userId, today);
+        } catch (DataIntegrityViolationException e) { // 그 사이 삭제된 유저
+            throw new CustomException("A user with " + userId + " not found", ExceptionDomain.USER, HttpStatus.NOT_FOUND);
         }
+        // 기록이 생긴 주/월의 합계 행을 만들어 둠 (0 을 더하므로 중복 호출돼도 무해)
+        studyTimeService.applyDelta(userId, today, 0);
 
-        return StudyTimeResponse.from(
-                studyTimeRepository.save(
-                        StudyTime.builder()
-                                .user(user)
-                                .build()
-                )
+        return studyTimeRepository.findByUserIdAndToday(userId).orElseThrow(
+                () -> new CustomException("Study time data not found", ExceptionDomain.USER, HttpStatus.NOT_FOUND)
         );
     }
 
+    private void validateActiveUser(User user, Long userId) {
+        if (user.getDeletedAt() != null) {
+            throw new CustomException("A user with " + userId + " not found", ExceptionDomain.USER, HttpStatus.NOT_FOUND);
+        }
+    }
+
+    // heartbeat 로 자주 호출되므로 DB 대신 쓰기 버퍼에 반영 (유저/오늘 기록 확인은 그날 첫 요청에서만)
     @Override
+    @Transactional(propagation = Propagation.SUPPORTS)
     public void updateStudyTime(Long userId, StudyTimeUpdateRequest studyTimeUpdateRequest) {
-        userRepository.findByIdAndDeletedAtIsNull(userId).orElseThrow(
-                () -> new CustomException("A user with " + userId + " not found", ExceptionDomain.USER, HttpStatus.NOT_FOUND)
-        );
+        long seconds = studyTimeUpdateRequest.getTime();
+        if (seconds < 0 || seconds > SECONDS_PER_DAY) {
+            throw new CustomException("Study time must be between 0 and " + SECONDS_PER_DAY + " seconds", ExceptionDomain.USER, HttpStatus.BAD_REQUEST);
+        }
 
-        StudyTime studyTime = studyTimeRepository.findByUserIdAndToday(userId).orElseThrow(
-                () -> new CustomException("Study time data not found", ExceptionDomain.USER, HttpStatus.NOT_FOUND)
-        );
+        LocalDate today = LocalDate.now();
+        if (!studyTimeWriteBuffer.update(userId, today, (int) seconds)) {
+            StudyTime studyTime = studyTimeRepository.findByUserIdAndToday(userId).orElseThrow(
+                    () -> new CustomException("Study time data not found", ExceptionDomain.USER, HttpStatus.NOT_FOUND)
+            );
+            validateActiveUser(studyTime.getUser(), userId);
+
+            studyTimeWriteBuffer.register(userId, today, studyTime.getSeconds(), (int) seconds);
+        }
 
-        studyTime.setTime(studyTimeUpdateRequest.getTime());
+        liveRankIndex.update(userId, (int) seconds);
+        roomStudyTimeAggregator.record(userId, (int) seconds);
     }
 
     @Override
     public List<RankResponse> getRanks(Long userId) {
-        userRepository.findByIdAndDeletedAtIsNull(userId).orElseThrow(
+        User user = userRepository.findByIdAndDeletedAtIsNull(userId).orElseThrow(
                 () -> new CustomException("A user with " + userId + " not found", ExceptionDomain.USER, HttpStatus.NOT_FOUND)
         );
 
-        List<StudyTime> studyTimes = studyTimeRepository.findRanksTop10Yesterday();
+        DailyRankSnapshot snapshot = dailyRankSnapshotManager.getSnapshot();
+        List<RankResponse> ranks = new ArrayList<>(snapshot.getTop());
+        snapshot.findRank(userId, user.getNickname()).ifPresent(ranks::add);
 
-        AtomicInteger order = new AtomicInteger(1);
+        return ranks;
+    }
 
-        List<RankResponse> ranks = studyTimes.stream()
-                .map(studyTime -> RankResponse.builder()
-                        .rank(order.getAndIncrement())
-                        .nickname(studyTime.getUser().getNickname())
-                        .time(studyTime.getTime())
-                        .build())
+    @Override
+    public List<RankResponse> getLiveRanks(Long userId) {
+        User user = userRepository.findByIdAndDeletedAtIsNull(userId).orElseThrow(
+                () -> new CustomException("A user with " + userId + " not found", ExceptionDomain.USER, HttpStatus.NOT_FOUND)
+        );
+
+        List<LiveRank> top = liveRankIndex.getTop(DailyRankSnapshot.TOP_SIZE);
+        Map<Long, String> nicknames = userRepository.findAllById(top.stream().map(LiveRank::getUserId).toList()).stream()
+                .filter(topUser -> topUser.getNickname() != null)
+                .collect(Collectors.toMap(User::getId, User::getNickname));
+
+        List<RankResponse> ranks = top.stream()
+                .map(liveRank -> RankResponse.of(liveRank.getRank(), nicknames.get(liveRank.getUserId()), liveRank.getSeconds()))
                 .collect(Collectors.toList());
 
-        //FIXME: 이후 수정
-        studyTimes = studyTimeRepository.findRanksYesterday(userId);
-        for (StudyTime studyTime : studyTimes) {
-            if (studyTime.getUser().getId().equals(userId)) {
-                ranks.add(
-                        RankResponse.builder()
-                                .rank(studyTimes.indexOf(studyTime) + 1)
-                                .nickname(studyTime.getUser().getNickname())
-                                .time(studyTime.getTime())
-                                .build()
-                );
-            }
-        }
+        liveRankIndex.findRank(userId)
+                .ifPresent(liveRank -> ranks.add(RankResponse.of(liveRank.getRank(), user.getNickname(), liveRank.getSeconds())));
 
         return ranks;
     }
 
     @Override
-    public List<FoundUserResponse> searchUsers(String accessToken, String keyword) {
-        Long userId = jwtUtils.getId(URLDecoder.decode(accessToken, StandardCharsets.UTF_8));
-        List<FoundUserResponse> foundUsers = userRepository.findUsersByNickname(userId, keyword);
+    public List<FoundUserResponse> searchUsers(Long loginId, String keyword) {
+        List<FoundUserResponse> foundUsers = userRepository.findUsersByNickname(loginId, keyword);
 
         return foundUsers;
     }
+
+    // 실제 조회는 반환한 본문이 응답을 쓸 때(트랜잭션 밖) 일어나므로 트랜잭션을 열지 않음
+    @Override
+    @Transactional(propagation = Propagation.SUPPORTS)
+    public StreamingResponseBody exportStudyTimes(Long userId, StudyTimeExportFormat format, Long loginId) {
+        User user = userRepository.findByIdAndDeletedAtIsNull(userId).orElseThrow(
+                () -> new CustomException("A user with " + userId + " not found", ExceptionDomain.USER, HttpStatus.NOT_FOUND)
+        );
+        if (!loginId.equals(user.getId())) {
+            throw new CustomException("Not match request ID and login ID", ExceptionDomain.USER, HttpStatus.UNAUTHORIZED);
+        }
+
+        // 오늘 기록은 아직 DB 에 반영되지 않은 최신 값으로 내보냄
+        LocalDate today = LocalDate.now();
+        OptionalInt todaySeconds = studyTimeWriteBuffer.find(userId, today);
+
+        return outputStream -> {
+            try (StudyTimeExportWriter writer = new StudyTimeExportWriter(outputStream, format)) {
+                studyTimeExportRepository.forEachByUserId(userId,
+                        (date, seconds) -> writer.write(date, date.equals(today) ? todaySeconds.orElse(seconds) : seconds));
+            }
+        };
+    }
 }
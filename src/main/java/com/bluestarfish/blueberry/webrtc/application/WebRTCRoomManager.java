@@ -1,6 +1,9 @@
 package com.bluestarfish.blueberry.webrtc.application;
 
-import com.bluestarfish.blueberry.user.repository.UserRepository;
+import com.bluestarfish.blueberry.common.repository.UserRoomRepository;
+import com.bluestarfish.blueberry.room.cache.RoomAccess;
+import com.bluestarfish.blueberry.room.cache.RoomAccessCache;
+import com.bluestarfish.blueberry.room.occupancy.RoomOccupancyRegistry;
 import com.bluestarfish.blueberry.webrtc.domain.UserSession;
 import com.bluestarfish.blueberry.webrtc.domain.WebRTCRoom;
 import com.google.gson.JsonObject;
@@ -23,7 +26,9 @@ import static com.bluestarfish.blueberry.webrtc.util.JsonMessageParser.extractSd
 @RequiredArgsConstructor
 public class WebRTCRoomManager {
     private final KurentoClient kurento;
-    private final UserRepository userRepository;
+    private final UserRoomRepository userRoomRepository;
+    private final RoomOccupancyRegistry roomOccupancyRegistry;
+    private final RoomAccessCache roomAccessCache;
     private final ConcurrentMap<String, WebRTCRoom> rooms = new ConcurrentHashMap<>();
 
     public UserSession join(JsonObject jsonMessage, WebSocketSession webSocketSession) throws IOException {
@@ -35,7 +40,7 @@ public class WebRTCRoomManager {
         return Optional.ofNullable(rooms.get(roomId))
                 .orElseGet(() -> {
                     log.info("'{}'번 방이 존재하지 않습니다. 새로운 방을 생성합니다.", roomId);
-                    WebRTCRoom newRoom = new WebRTCRoom(roomId, kurento.createMediaPipeline(), userRepository);
+                    WebRTCRoom newRoom = new WebRTCRoom(roomId, kurento.createMediaPipeline(), userRoomRepository, roomOccupancyRegistry, findMaxUsers(roomId));
                     rooms.put(roomId, newRoom);
 
                     return newRoom;
@@ -67,7 +72,14 @@ public class WebRTCRoomManager {
         webRTCRoom.sendMicControl(jsonMessage, userSession);
     }
 
+    // 정원 정보가 없으면 제한하지 않음
+    private int findMaxUsers(String roomId) {
+        return roomAccessCache.getActive(Long.valueOf(roomId))
+                .map(RoomAccess::getMaxUsers)
+                .orElse(0);
+    }
+
     private WebRTCRoom createNewRoom(String roomId) {
-        return new WebRTCRoom(roomId, kurento.createMediaPipeline(), userRepository);
+        return new WebRTCRoom(roomId, kurento.createMediaPipeline(), userRoomRepository, roomOccupancyRegistry, findMaxUsers(roomId));
     }
 }
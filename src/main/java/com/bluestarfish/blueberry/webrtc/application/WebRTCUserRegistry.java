@@ -27,6 +27,9 @@ public class WebRTCUserRegistry {
 
     public UserSession removeBySession(WebSocketSession webSocketSession) {
         UserSession user = getBySession(webSocketSession);
+        if (user == null) {
+            return null;
+        }
         usersByName.remove(user.getName());
         usersBySessionId.remove(webSocketSession.getId());
         
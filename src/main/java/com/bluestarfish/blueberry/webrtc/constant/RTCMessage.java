@@ -31,4 +31,5 @@ public class RTCMessage {
     public static final String CAM_ENABLED = "camEnabled";
     public static final String MIC_ENABLED = "micEnabled";
     public static final String SPEAKER_ENABLED = "speakerEnabled";
+    public static final String ROOM_FULL = "roomFull";
 }
@@ -1,9 +1,10 @@
 package com.bluestarfish.blueberry.webrtc.domain;
 
+import com.bluestarfish.blueberry.common.dto.UserRoomResponse;
+import com.bluestarfish.blueberry.common.repository.UserRoomRepository;
 import com.bluestarfish.blueberry.exception.CustomException;
 import com.bluestarfish.blueberry.exception.ExceptionDomain;
-import com.bluestarfish.blueberry.user.entity.User;
-import com.bluestarfish.blueberry.user.repository.UserRepository;
+import com.bluestarfish.blueberry.room.occupancy.RoomOccupancyRegistry;
 import com.google.gson.JsonArray;
 import com.google.gson.JsonObject;
 import com.google.gson.JsonPrimitive;
@@ -13,6 +14,7 @@ import lombok.extern.slf4j.Slf4j;
 import org.kurento.client.Continuation;
 import org.kurento.client.MediaPipeline;
 import org.springframework.http.HttpStatus;
+import org.springframework.web.socket.TextMessage;
 import org.springframework.web.socket.WebSocketSession;
 
 import java.io.Closeable;
@@ -30,24 +32,49 @@ import static com.bluestarfish.blueberry.webrtc.constant.RTCMessage.*;
 public class WebRTCRoom implements Closeable {
     private final String roomId;
     private final MediaPipeline pipeline;
-    private final UserRepository userRepository;// 서비스단에서 조회하도록?
+    private final UserRoomRepository userRoomRepository;// 서비스단에서 조회하도록?
+    private final RoomOccupancyRegistry roomOccupancyRegistry;
+    private final int maxUsers;
     private final ConcurrentMap<String, UserSession> participants = new ConcurrentHashMap<>();
 
     public WebRTCRoom(
             String roomId,
             MediaPipeline pipeline,
-            UserRepository userRepository
+            UserRoomRepository userRoomRepository,
+            RoomOccupancyRegistry roomOccupancyRegistry,
+            int maxUsers
     ) {
         this.roomId = roomId;
         this.pipeline = pipeline;
-        this.userRepository = userRepository;
+        this.userRoomRepository = userRoomRepository;
+        this.roomOccupancyRegistry = roomOccupancyRegistry;
+        this.maxUsers = maxUsers;
         log.info("{} 번 방 생성", roomId);
     }
 
     public UserSession join(JsonObject jsonMessage, WebSocketSession session) throws IOException {
-        UserSession participant = createNewParticipant(jsonMessage, session);
+        UserRoomResponse participantInfo = findParticipant(jsonMessage);
+
+        // 정원이 찬 방이면 WebRtcEndpoint 를 만들기 전에 거절
+        if (!roomOccupancyRegistry.tryAdmit(Long.valueOf(roomId), participantInfo.getUserId(), maxUsers)) {
+            log.info("'{}'번 방: 정원 초과로 '{}' 입장 거절", roomId, jsonMessage.get(NAME).getAsString());
+            JsonObject roomFullMsg = new JsonObject();
+            roomFullMsg.addProperty(SOCKET_MESSAGE_ID, ROOM_FULL);
+            session.sendMessage(new TextMessage(roomFullMsg.toString()));
+            return null;
+        }
+
+        jsonMessage.addProperty("profileImage", participantInfo.getProfileImage());
+
+        UserSession participant = new UserSession(jsonMessage, session, pipeline);
         joinRoom(participant);
         participants.put(participant.getName(), participant);
+
+        // 방 상세 조회 시 보여줄 참여자 정보는 실제 접속한 세션의 장치 상태로 갱신
+        participantInfo.setCamEnabled(participant.isCamEnabled());
+        participantInfo.setMicEnabled(participant.isMicEnabled());
+        participantInfo.setSpeakerEnabled(participant.isSpeakerEnabled());
+        roomOccupancyRegistry.joinSession(Long.valueOf(roomId), participantInfo);
         sendParticipantNames(participant);
 
         log.info("'{}'번 방: '{}' 참가", roomId, jsonMessage.get(NAME).getAsString());
@@ -55,23 +82,17 @@ public class WebRTCRoom implements Closeable {
         return participant;
     }
 
-    private UserSession createNewParticipant(JsonObject jsonMessage, WebSocketSession session) {
-        User user = userRepository.findById(jsonMessage.get("userId").getAsLong())
+    private UserRoomResponse findParticipant(JsonObject jsonMessage) {
+        return userRoomRepository.findParticipant(Long.valueOf(roomId), jsonMessage.get("userId").getAsLong())
                 .orElseThrow(
                         () -> new CustomException("", ExceptionDomain.USER, HttpStatus.NOT_FOUND)
                 );
-        jsonMessage.addProperty("profileImage", user.getProfileImage());
-
-        return new UserSession(
-                jsonMessage,
-                session,
-                pipeline
-        );
     }
 
     public void leave(UserSession userSession) throws IOException {
         log.info("'{}'번 방 '{}' 님 퇴장", roomId, userSession.getName());
         removeParticipant(userSession.getName());
+        roomOccupancyRegistry.leave(Long.valueOf(roomId), userSession.getUserId());
         userSession.close();
     }
 
@@ -89,15 +110,12 @@ public class WebRTCRoom implements Closeable {
     }
 
     private JsonObject createNewParticipantMessage(UserSession newParticipant) {
-        User user = userRepository.findByNicknameAndDeletedAtIsNull(newParticipant.getName())
-                .orElseThrow(
-                        () -> new CustomException("", ExceptionDomain.USER, HttpStatus.NOT_FOUND)
-                );
+        // 입장 시 조회한 유저 정보를 세션에 담아두었으므로 다시 조회하지 않음
         JsonObject newParticipantMsg = new JsonObject();
         newParticipantMsg.addProperty(SOCKET_MESSAGE_ID, NEW_PARTICIPANT_ARRIVED);
         newParticipantMsg.addProperty(NAME, newParticipant.getName());
-        newParticipantMsg.addProperty(USER_ID, user.getId());
-        newParticipantMsg.addProperty(PROFILE_IMAGE, user.getProfileImage());
+        newParticipantMsg.addProperty(USER_ID, newParticipant.getUserId());
+        newParticipantMsg.addProperty(PROFILE_IMAGE, newParticipant.getProfileImage());
         newParticipantMsg.addProperty(CAM_ENABLED, newParticipant.isCamEnabled());
         newParticipantMsg.addProperty(MIC_ENABLED, newParticipant.isMicEnabled());
         newParticipantMsg.addProperty(SPEAKER_ENABLED, newParticipant.isSpeakerEnabled());
@@ -22,6 +22,9 @@ public class AfterConnectionClosedHandler extends MessageHandler {
     @Override
     public void handleMessage(JsonObject jsonMessage, WebSocketSession webSocketSession) throws IOException {
         UserSession userSession = webRTCUserRegistry.removeBySession(webSocketSession);
+        if (userSession == null) { // 입장하지 못한 세션
+            return;
+        }
         webRTCRoomManager.getRoom(userSession.getRoomName()).leave(userSession);
     }
 }
@@ -25,6 +25,8 @@ public class JoinRoomHandler extends MessageHandler {
             WebSocketSession webSocketSession
     ) throws IOException {
         UserSession userSession = webRTCRoomManager.join(jsonMessage, webSocketSession);
-        webRTCUserRegistry.register(userSession);
+        if (userSession != null) { // 정원 초과로 거절된 경우 등록하지 않음
+            webRTCUserRegistry.register(userSession);
+        }
     }
 }
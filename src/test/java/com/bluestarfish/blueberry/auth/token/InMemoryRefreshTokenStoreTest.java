@@ -0,0 +1,139 @@
+package com.bluestarfish.blueberry.auth.token;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import com.bluestarfish.blueberry.auth.repository.RefreshTokenFamilyRepository;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import org.junit.jupiter.api.Test;
+
+class InMemoryRefreshTokenStoreTest {
+
+	private static final Long USER_ID = 1L;
+	private static final int ROTATORS = 200;
+
+	private final RecordingRepository repository = new RecordingRepository();
+	private final InMemoryRefreshTokenStore store = new InMemoryRefreshTokenStore(repository);
+
+	@Test
+	void onlyOneConcurrentRotationOfSameGenerationSucceeds() throws Exception {
+		RefreshTokenFamily issued = family("a");
+		store.save(issued);
+
+		ExecutorService executor = Executors.newFixedThreadPool(16);
+		CountDownLatch start = new CountDownLatch(1);
+		List<Future<Boolean>> results = new ArrayList<>();
+		try {
+			for (int i = 0; i < ROTATORS; i++) {
+				String token = "token-" + i;
+				results.add(executor.submit(() -> {
+					start.await();
+					return store.compareAndSet(issued, issued.rotate(token, issued.expiresAt(), Instant.now()));
+				}));
+			}
+			start.countDown();
+
+			int rotated = 0;
+			for (Future<Boolean> result : results) {
+				if (result.get(10, TimeUnit.SECONDS)) {
+					rotated++;
+				}
+			}
+			assertThat(rotated).isEqualTo(1);
+		} finally {
+			executor.shutdownNow();
+		}
+
+		assertThat(store.find("a")).get().extracting(RefreshTokenFamily::generation).isEqualTo(1);
+	}
+
+	@Test
+	void flushWritesLatestStateOnce() {
+		RefreshTokenFamily issued = family("a");
+		store.save(issued);
+		RefreshTokenFamily rotated = issued.rotate("next", issued.expiresAt(), Instant.now());
+		store.compareAndSet(issued, rotated);
+
+		store.flush();
+		store.flush();
+
+		assertThat(repository.saved).containsExactly(rotated);
+		assertThat(repository.deleted).isEmpty();
+	}
+
+	@Test
+	void revokeAllRemovesEveryFamilyOfUser() {
+		store.save(family("a"));
+		store.save(family("b"));
+		store.save(new RefreshTokenFamily("c", 2L, 0, "token", Instant.now().plus(Duration.ofDays(1)), null));
+		store.flush();
+
+		store.revokeAll(USER_ID);
+		store.flush();
+
+		assertThat(store.find("a")).isEmpty();
+		assertThat(store.find("b")).isEmpty();
+		assertThat(store.find("c")).isPresent();
+		assertThat(repository.deleted).containsExactlyInAnyOrder("a", "b");
+	}
+
+	@Test
+	void revokedFamilyCannotBeRotated() {
+		RefreshTokenFamily issued = family("a");
+		store.save(issued);
+
+		store.revoke("a");
+
+		assertThat(store.compareAndSet(issued, issued.rotate("next", issued.expiresAt(), Instant.now()))).isFalse();
+		assertThat(store.find("a")).isEmpty();
+	}
+
+	@Test
+	void purgeRemovesExpiredFamilies() {
+		store.save(new RefreshTokenFamily("a", USER_ID, 0, "token", Instant.now().minusSeconds(1), null));
+		store.save(family("b"));
+
+		store.purgeExpired();
+
+		assertThat(store.find("a")).isEmpty();
+		assertThat(store.find("b")).isPresent();
+		assertThat(repository.expiredDeletions).isEqualTo(1);
+	}
+
+	private RefreshTokenFamily family(String familyId) {
+		return RefreshTokenFamily.issue(familyId, USER_ID, "token-" + familyId, Instant.now().plus(Duration.ofDays(1)));
+	}
+
+	private static class RecordingRepository extends RefreshTokenFamilyRepository {
+		private final List<RefreshTokenFamily> saved = new ArrayList<>();
+		private final List<String> deleted = new ArrayList<>();
+		private int expiredDeletions;
+
+		RecordingRepository() {
+			super(null);
+		}
+
+		@Override
+		public void save(RefreshTokenFamily family) {
+			saved.add(family);
+		}
+
+		@Override
+		public void delete(String familyId) {
+			deleted.add(familyId);
+		}
+
+		@Override
+		public int deleteExpired() {
+			expiredDeletions++;
+			return 0;
+		}
+	}
+}
@@ -0,0 +1,68 @@
+package com.bluestarfish.blueberry.jwt;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import org.junit.jupiter.api.Test;
+
+class RouteMatcherTest {
+
+	private final RouteMatcher matcher = RouteMatcher.builder()
+			.add("/api/v1/rooms", "GET")
+			.add("/api/v1/rooms/scroll", "GET")
+			.add("/api/v1/rooms/{roomId}", "GET")
+			.add("/api/v1/rooms/{roomId}/ranks", "GET")
+			.add("/api/v1/feedback", "GET", "POST")
+			.add("/login/**")
+			.build();
+
+	@Test
+	void matchesLiteralPathsByMethod() {
+		assertThat(matcher.matches("GET", "/api/v1/rooms")).isTrue();
+		assertThat(matcher.matches("POST", "/api/v1/rooms")).isFalse();
+		assertThat(matcher.matches("POST", "/api/v1/feedback")).isTrue();
+		assertThat(matcher.matches("DELETE", "/api/v1/feedback")).isFalse();
+	}
+
+	@Test
+	void matchesVariableSegments() {
+		assertThat(matcher.matches("GET", "/api/v1/rooms/42")).isTrue();
+		assertThat(matcher.matches("GET", "/api/v1/rooms/42/ranks")).isTrue();
+		assertThat(matcher.matches("DELETE", "/api/v1/rooms/42")).isFalse();
+		assertThat(matcher.matches("GET", "/api/v1/rooms/42/chats")).isFalse();
+		assertThat(matcher.matches("GET", "/api/v1/rooms/my/7")).isFalse();
+	}
+
+	@Test
+	void fallsBackToVariableWhenLiteralBranchDoesNotMatch() {
+		// "scroll" 은 고정 세그먼트지만 그 아래 "ranks" 는 변수 세그먼트 쪽에만 있음
+		assertThat(matcher.matches("GET", "/api/v1/rooms/scroll")).isTrue();
+		assertThat(matcher.matches("GET", "/api/v1/rooms/scroll/ranks")).isTrue();
+	}
+
+	@Test
+	void doesNotMatchEmptyOrPartialSegments() {
+		assertThat(matcher.matches("GET", "/api/v1/rooms/")).isFalse();
+		assertThat(matcher.matches("GET", "/api/v1/room")).isFalse();
+		assertThat(matcher.matches("GET", "/api/v1")).isFalse();
+		assertThat(matcher.matches("GET", "")).isFalse();
+		assertThat(matcher.matches("BREW", "/api/v1/rooms")).isFalse();
+	}
+
+	@Test
+	void catchAllMatchesPrefixForAnyMethod() {
+		assertThat(matcher.matches("GET", "/login")).isTrue();
+		assertThat(matcher.matches("POST", "/login/oauth2/code/kakao")).isTrue();
+		assertThat(matcher.matches("GET", "/api/v1/auth/login")).isFalse();
+	}
+
+	@Test
+	void rejectsInvalidTemplates() {
+		assertThatThrownBy(() -> RouteMatcher.builder().add("api/v1/rooms", "GET"))
+				.isInstanceOf(IllegalArgumentException.class);
+		assertThatThrownBy(() -> RouteMatcher.builder().add("/api/**/rooms", "GET"))
+				.isInstanceOf(IllegalArgumentException.class);
+		assertThatThrownBy(() -> RouteMatcher.builder().add("/api/v1/rooms", "FETCH"))
+				.isInstanceOf(IllegalArgumentException.class);
+	}
+}
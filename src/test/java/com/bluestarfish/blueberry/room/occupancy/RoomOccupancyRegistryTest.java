@@ -0,0 +1,139 @@
+package com.bluestarfish.blueberry.room.occupancy;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import com.bluestarfish.blueberry.common.dto.UserRoomResponse;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.LongFunction;
+import org.junit.jupiter.api.Test;
+
+class RoomOccupancyRegistryTest {
+
+	private static final Long ROOM_ID = 1L;
+	private static final int JOINERS = 500;
+
+	@Test
+	void admitsOnlyUpToMaxUsersUnderConcurrentJoins() throws Exception {
+		RoomOccupancyRegistry registry = new RoomOccupancyRegistry();
+
+		int admitted = joinConcurrently(userId -> registry.tryAdmit(ROOM_ID, userId, 10), id -> id);
+
+		assertThat(admitted).isEqualTo(10);
+		assertThat(registry.getCount(ROOM_ID)).isEqualTo(10);
+	}
+
+	@Test
+	void countsSameUserOnceUnderConcurrentJoins() throws Exception {
+		RoomOccupancyRegistry registry = new RoomOccupancyRegistry();
+
+		int admitted = joinConcurrently(userId -> registry.tryAdmit(ROOM_ID, userId, 10), id -> 7L);
+
+		assertThat(admitted).isEqualTo(JOINERS);
+		assertThat(registry.getCount(ROOM_ID)).isEqualTo(1);
+	}
+
+	@Test
+	void releasesSlotOnLeave() {
+		RoomOccupancyRegistry registry = new RoomOccupancyRegistry();
+
+		assertThat(registry.tryAdmit(ROOM_ID, 1L, 1)).isTrue();
+		assertThat(registry.tryAdmit(ROOM_ID, 2L, 1)).isFalse();
+
+		registry.leave(ROOM_ID, 1L);
+
+		assertThat(registry.tryAdmit(ROOM_ID, 2L, 1)).isTrue();
+		assertThat(registry.getCount(ROOM_ID)).isEqualTo(1);
+	}
+
+	@Test
+	void doesNotLimitWhenMaxUsersIsNotSet() throws Exception {
+		RoomOccupancyRegistry registry = new RoomOccupancyRegistry();
+
+		int admitted = joinConcurrently(userId -> registry.tryAdmit(ROOM_ID, userId, 0), id -> id);
+
+		assertThat(admitted).isEqualTo(JOINERS);
+		assertThat(registry.getCount(ROOM_ID)).isEqualTo(JOINERS);
+	}
+
+	@Test
+	void doesNotPublishParticipantUntilJoin() {
+		RoomOccupancyRegistry registry = new RoomOccupancyRegistry();
+
+		registry.tryAdmit(ROOM_ID, 1L, 10);
+
+		assertThat(registry.getCount(ROOM_ID)).isEqualTo(1);
+		assertThat(registry.getParticipants(ROOM_ID)).isEmpty();
+
+		registry.join(ROOM_ID, participant(1L));
+
+		assertThat(registry.getCount(ROOM_ID)).isEqualTo(1);
+		assertThat(registry.getParticipants(ROOM_ID)).extracting(UserRoomResponse::getUserId).containsExactly(1L);
+	}
+
+	@Test
+	void reconcileKeepsSeatsTakenAfterSnapshot() {
+		RoomOccupancyRegistry registry = new RoomOccupancyRegistry();
+		long staleBefore = System.nanoTime();
+
+		registry.tryAdmit(ROOM_ID, 1L, 2);
+		registry.joinSession(ROOM_ID, participant(2L));
+		registry.reconcile(Map.of(), staleBefore);
+
+		assertThat(registry.getCount(ROOM_ID)).isEqualTo(2);
+		assertThat(registry.tryAdmit(ROOM_ID, 3L, 2)).isFalse();
+	}
+
+	@Test
+	void reconcileDropsStaleSeatsButKeepsSessions() {
+		RoomOccupancyRegistry registry = new RoomOccupancyRegistry();
+
+		registry.join(ROOM_ID, participant(1L));
+		registry.tryAdmit(ROOM_ID, 2L, 10);
+		registry.joinSession(ROOM_ID, participant(3L));
+		registry.reconcile(Map.of(ROOM_ID, List.of(participant(4L))), System.nanoTime());
+
+		assertThat(registry.getCount(ROOM_ID)).isEqualTo(2);
+		assertThat(registry.getParticipants(ROOM_ID)).extracting(UserRoomResponse::getUserId)
+				.containsExactlyInAnyOrder(3L, 4L);
+	}
+
+	private UserRoomResponse participant(Long userId) {
+		return UserRoomResponse.builder().userId(userId).nickname("user" + userId).build();
+	}
+
+	// 모든 스레드를 동시에 출발시켜 입장 요청을 보내고 허용된 수를 반환
+	private int joinConcurrently(LongFunction<Boolean> admit, LongFunction<Long> userIdOf) throws Exception {
+		ExecutorService executor = Executors.newFixedThreadPool(JOINERS);
+		CountDownLatch start = new CountDownLatch(1);
+		AtomicInteger admitted = new AtomicInteger();
+		List<Future<?>> futures = new ArrayList<>();
+
+		try {
+			for (long i = 0; i < JOINERS; i++) {
+				long userId = userIdOf.apply(i);
+				futures.add(executor.submit(() -> {
+					start.await();
+					if (admit.apply(userId)) {
+						admitted.incrementAndGet();
+					}
+					return null;
+				}));
+			}
+			start.countDown();
+			for (Future<?> future : futures) {
+				future.get(10, TimeUnit.SECONDS);
+			}
+		} finally {
+			executor.shutdownNow();
+		}
+		return admitted.get();
+	}
+}
@@ -0,0 +1,38 @@
+package com.bluestarfish.blueberry.user.export;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.io.ByteArrayOutputStream;
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDate;
+import org.junit.jupiter.api.Test;
+
+class StudyTimeExportWriterTest {
+
+	@Test
+	void writesCsvRows() throws Exception {
+		ByteArrayOutputStream out = new ByteArrayOutputStream();
+
+		try (StudyTimeExportWriter writer = new StudyTimeExportWriter(out, StudyTimeExportFormat.CSV)) {
+			writer.write(LocalDate.of(2024, 8, 1), 3725);
+			writer.write(LocalDate.of(2024, 8, 2), 0);
+		}
+
+		assertThat(out.toString(StandardCharsets.UTF_8)).isEqualTo(
+				"date,seconds,time\n"
+						+ "2024-08-01,3725,01:02:05\n"
+						+ "2024-08-02,0,00:00:00\n");
+	}
+
+	@Test
+	void writesNdjsonRows() throws Exception {
+		ByteArrayOutputStream out = new ByteArrayOutputStream();
+
+		try (StudyTimeExportWriter writer = new StudyTimeExportWriter(out, StudyTimeExportFormat.NDJSON)) {
+			writer.write(LocalDate.of(2024, 8, 1), 86400);
+		}
+
+		assertThat(out.toString(StandardCharsets.UTF_8))
+				.isEqualTo("{\"date\":\"2024-08-01\",\"seconds\":86400,\"time\":\"24:00:00\"}\n");
+	}
+}
@@ -0,0 +1,39 @@
+package com.bluestarfish.blueberry.user.rank;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import com.bluestarfish.blueberry.user.dto.RankResponse;
+import java.time.LocalDate;
+import java.util.Map;
+import org.junit.jupiter.api.Test;
+
+class DailyRankSnapshotTest {
+
+	private static final LocalDate TODAY = LocalDate.of(2024, 8, 1);
+
+	@Test
+	void sharesRankBetweenTiedSeconds() {
+		DailyRankRows rows = new DailyRankRows(4);
+		rows.add(1L, 3600);
+		rows.add(2L, 1800);
+		rows.add(3L, 1800);
+		rows.add(4L, 600);
+
+		DailyRankSnapshot snapshot = DailyRankSnapshot.of(TODAY, rows, Map.of());
+
+		assertThat(snapshot.getTop()).extracting(RankResponse::getRank).containsExactly(1, 2, 2, 4);
+		assertThat(snapshot.findRank(3L, "c")).map(RankResponse::getRank).contains(2);
+		assertThat(snapshot.findRank(4L, "d")).map(RankResponse::getRank).contains(4);
+	}
+
+	@Test
+	void findsNothingForUnrankedUser() {
+		DailyRankRows rows = new DailyRankRows(1);
+		rows.add(1L, 3600);
+
+		DailyRankSnapshot snapshot = DailyRankSnapshot.of(TODAY, rows, Map.of());
+
+		assertThat(snapshot.findRank(9L, "x")).isEmpty();
+		assertThat(DailyRankSnapshot.empty(TODAY).findRank(1L, "a")).isEmpty();
+	}
+}
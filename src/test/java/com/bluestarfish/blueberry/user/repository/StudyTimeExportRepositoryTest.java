@@ -0,0 +1,141 @@
+package com.bluestarfish.blueberry.user.repository;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import com.bluestarfish.blueberry.user.export.StudyTimeExportFormat;
+import com.bluestarfish.blueberry.user.export.StudyTimeExportWriter;
+import java.io.OutputStream;
+import java.lang.reflect.InvocationHandler;
+import java.lang.reflect.Method;
+import java.lang.reflect.Proxy;
+import java.sql.Connection;
+import java.sql.Date;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.time.LocalDate;
+import javax.sql.DataSource;
+import org.junit.jupiter.api.Test;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+class StudyTimeExportRepositoryTest {
+
+	private static final int ROWS = 200_000;
+	private static final LocalDate START = LocalDate.of(1970, 1, 1);
+
+	@Test
+	void streamsRowsToOutputWhileReadingResultSet() throws Exception {
+		CountingOutputStream out = new CountingOutputStream();
+		StreamingRows rows = new StreamingRows(ROWS, out);
+		StudyTimeExportRepository repository = new StudyTimeExportRepository(new JdbcTemplate(rows.dataSource()));
+
+		try (StudyTimeExportWriter writer = new StudyTimeExportWriter(out, StudyTimeExportFormat.CSV)) {
+			repository.forEachByUserId(1L, writer::write);
+			assertThat(writer.getRowCount()).isEqualTo(ROWS);
+		}
+
+		// MySQL 드라이버가 행 단위 스트리밍을 하도록 forward-only + Integer.MIN_VALUE 로 조회
+		assertThat(rows.resultSetType).isEqualTo(ResultSet.TYPE_FORWARD_ONLY);
+		assertThat(rows.fetchSize).isEqualTo(Integer.MIN_VALUE);
+		// 결과를 끝까지 읽기 전에 이미 앞쪽 행이 응답으로 나가고 있어야 함
+		assertThat(rows.bytesWrittenAtHalf).isGreaterThan(0);
+		assertThat(out.lines).isEqualTo(ROWS + 1);
+	}
+
+	// 요청받을 때마다 한 행씩 만들어 주는 JDBC 결과, 중간 지점에서 응답으로 나간 양을 기록
+	private static class StreamingRows {
+		private final int rows;
+		private final CountingOutputStream out;
+		private int cursor;
+		private int resultSetType;
+		private int fetchSize;
+		private long bytesWrittenAtHalf;
+
+		StreamingRows(int rows, CountingOutputStream out) {
+			this.rows = rows;
+			this.out = out;
+		}
+
+		DataSource dataSource() {
+			Connection connection = proxy(Connection.class, (method, args) -> {
+				if (method.getName().equals("prepareStatement")) {
+					if (args.length > 1) {
+						resultSetType = (Integer) args[1];
+					}
+					return statement();
+				}
+				return null;
+			});
+			return proxy(DataSource.class, (method, args) -> method.getName().equals("getConnection") ? connection : null);
+		}
+
+		private PreparedStatement statement() {
+			ResultSet resultSet = proxy(ResultSet.class, (method, args) -> switch (method.getName()) {
+				case "next" -> next();
+				case "getDate" -> Date.valueOf(START.plusDays(cursor - 1));
+				case "getInt" -> cursor % 86400;
+				default -> null;
+			});
+			return proxy(PreparedStatement.class, (method, args) -> {
+				if (method.getName().equals("setFetchSize")) {
+					fetchSize = (Integer) args[0];
+				}
+				return method.getName().equals("executeQuery") ? resultSet : null;
+			});
+		}
+
+		private boolean next() {
+			if (cursor == rows / 2) {
+				bytesWrittenAtHalf = out.bytes;
+			}
+			return ++cursor <= rows;
+		}
+	}
+
+	private interface Handler {
+		Object handle(Method method, Object[] args);
+	}
+
+	private static <T> T proxy(Class<T> type, Handler handler) {
+		InvocationHandler invocationHandler = (proxy, method, args) -> {
+			Object result = handler.handle(method, args);
+			return result != null ? result : defaultValue(method.getReturnType());
+		};
+		return type.cast(Proxy.newProxyInstance(type.getClassLoader(), new Class<?>[]{type}, invocationHandler));
+	}
+
+	private static Object defaultValue(Class<?> type) {
+		if (type == boolean.class) {
+			return false;
+		}
+		if (type == int.class) {
+			return 0;
+		}
+		if (type == long.class) {
+			return 0L;
+		}
+		return null;
+	}
+
+	private static class CountingOutputStream extends OutputStream {
+		private long bytes;
+		private long lines;
+
+		@Override
+		public void write(int b) {
+			bytes++;
+			if (b == '\n') {
+				lines++;
+			}
+		}
+
+		@Override
+		public void write(byte[] b, int off, int len) {
+			bytes += len;
+			for (int i = off; i < off + len; i++) {
+				if (b[i] == '\n') {
+					lines++;
+				}
+			}
+		}
+	}
+}